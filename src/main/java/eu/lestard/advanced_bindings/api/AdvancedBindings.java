@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.Binding;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Functionality that concerns all bindings of this library.
+ */
+public final class AdvancedBindings {
+
+    private static final ThreadLocal<Batch> BATCH = new ThreadLocal<>();
+
+    /**
+     * The number of threads that are currently inside of a batch. As long as there are none, invalidations
+     * don't have to look up the batch of the current thread.
+     */
+    private static final AtomicInteger activeBatches = new AtomicInteger();
+
+    private AdvancedBindings() {
+    }
+
+    /**
+     * Runs the given block and defers the invalidations of the bindings of this library until the block has ended.
+     *
+     * Without a batch every write to a property invalidates the bindings that depend on it. If a binding is read
+     * between the writes, for example by a `ChangeListener`, it is recomputed after every write. Inside of a batch
+     * the bindings of this library keep their previous values and remember that they have to be invalidated.
+     * When the block ends each of them is invalidated once, so it is recomputed at most once:
+     *
+     * ```java
+     * DoubleBinding length = MathBindings.hypot(x, y);
+     * length.addListener((observable, oldValue, newValue) -> redraw());
+     *
+     * AdvancedBindings.batch(() -> {
+     *     x.set(3);
+     *     y.set(4);
+     * }); // redraw is called once
+     * ```
+     *
+     * This includes the bindings that depend on observable lists, like the aggregates of
+     * {@link CollectionBindings}: the changes of a list are still applied to the aggregates one by one,
+     * but the bindings are only invalidated after the batch.
+     *
+     * Batches can be nested. The invalidations are deferred until the outermost batch ends, even if the block throws
+     * an exception. Exceptions that are thrown while the deferred invalidations are processed, for example by
+     * listeners, are added as suppressed to the exception of the block or are thrown after all invalidations are
+     * done.
+     *
+     * Batches are bound to the current thread, which is usually the JavaFX application thread.
+     * Bindings that are not created by this library aren't affected.
+     *
+     * @param block the code that modifies the dependencies of the bindings.
+     */
+    public static void batch(final Runnable block) {
+        Batch batch = BATCH.get();
+        if (batch == null) {
+            batch = new Batch();
+            BATCH.set(batch);
+        }
+
+        if (batch.depth++ == 0) {
+            activeBatches.incrementAndGet();
+        }
+
+        try {
+            block.run();
+        } catch (Throwable e) {
+            endBatch(batch, e);
+            throw e;
+        }
+        endBatch(batch, null);
+    }
+
+    private static void endBatch(Batch batch, Throwable blockFailure) {
+        if (--batch.depth == 0) {
+            activeBatches.decrementAndGet();
+            batch.runDeferredActions(blockFailure);
+        }
+    }
+
+    /**
+     * @return `true` if the current thread is inside of a {@link #batch(Runnable) batch}.
+     */
+    public static boolean isBatching() {
+        if (activeBatches.get() == 0) {
+            return false;
+        }
+
+        final Batch batch = BATCH.get();
+        return batch != null && batch.depth > 0;
+    }
+
+    /**
+     * Invalidates the binding now or, inside of a batch, when the batch ends.
+     */
+    static void invalidate(Binding<?> binding) {
+        if (isBatching()) {
+            BATCH.get().defer(binding, binding::invalidate);
+        } else {
+            binding.invalidate();
+        }
+    }
+
+    /**
+     * Runs the action now or, inside of a batch, when the batch ends. An action that is deferred several times
+     * with the same key is only run once.
+     *
+     * The key must not be a binding, because {@link #invalidate(Binding)} uses the binding as key
+     * and one of the two actions would be lost.
+     */
+    static void runAfterBatch(Object key, Runnable action) {
+        if (isBatching()) {
+            BATCH.get().defer(key, action);
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Batch {
+
+        private int depth;
+
+        private final Map<Object, Runnable> deferredActions = new LinkedHashMap<>();
+
+        private void defer(Object key, Runnable action) {
+            deferredActions.putIfAbsent(key, action);
+        }
+
+        /**
+         * Runs the actions in the order they have been deferred. As the batch has ended, invalidations that are
+         * caused by the actions are not deferred anymore.
+         *
+         * All actions are run, even if some of them throw. The exception of the block, or else the first exception
+         * of an action, is thrown by the batch and the other exceptions are added to it as suppressed.
+         */
+        private void runDeferredActions(Throwable blockFailure) {
+            if (deferredActions.isEmpty()) {
+                return;
+            }
+
+            final List<Runnable> actions = new ArrayList<>(deferredActions.values());
+            deferredActions.clear();
+
+            Throwable failure = blockFailure;
+            for (Runnable action : actions) {
+                try {
+                    action.run();
+                } catch (RuntimeException | Error e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+
+            if (failure instanceof RuntimeException && failure != blockFailure) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error && failure != blockFailure) {
+                throw (Error) failure;
+            }
+        }
+    }
+}
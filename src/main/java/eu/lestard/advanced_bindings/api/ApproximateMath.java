@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+/**
+ * Fast approximations of trigonometric functions by table lookup and linear interpolation,
+ * see {@link ApproximateMathBindings} for the accuracy.
+ */
+final class ApproximateMath {
+
+    /**
+     * The number of table entries per full turn. Has to be a power of two.
+     */
+    private static final int SIN_TABLE_SIZE = 4096;
+    private static final double SIN_SCALE = SIN_TABLE_SIZE / (2 * Math.PI);
+
+    /**
+     * Larger arguments are passed to {@link Math#sin(double)} and {@link Math#cos(double)} because the
+     * reduction to a table index would lose too much precision.
+     */
+    private static final double MAX_REDUCED_ARGUMENT = 0x1p30;
+
+    private static final int ATAN_TABLE_SIZE = 1024;
+
+    private static final double[] SIN_TABLE = new double[SIN_TABLE_SIZE + 1];
+    private static final double[] ATAN_TABLE = new double[ATAN_TABLE_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= SIN_TABLE_SIZE; i++) {
+            SIN_TABLE[i] = Math.sin(i / SIN_SCALE);
+        }
+        for (int i = 0; i <= ATAN_TABLE_SIZE; i++) {
+            ATAN_TABLE[i] = Math.atan((double) i / ATAN_TABLE_SIZE);
+        }
+    }
+
+    private ApproximateMath() {
+    }
+
+    static double sin(double a) {
+        if (!(Math.abs(a) <= MAX_REDUCED_ARGUMENT)) {
+            return Math.sin(a);
+        }
+        return lookupSin(a * SIN_SCALE);
+    }
+
+    static double cos(double a) {
+        if (!(Math.abs(a) <= MAX_REDUCED_ARGUMENT)) {
+            return Math.cos(a);
+        }
+        // cos(a) = sin(a + quarter turn)
+        return lookupSin(a * SIN_SCALE + SIN_TABLE_SIZE / 4);
+    }
+
+    static double atan(double a) {
+        if (Double.isNaN(a)) {
+            return a;
+        }
+
+        final double abs = Math.abs(a);
+        // atan(a) = pi/2 - atan(1/a) for |a| > 1
+        final double result = abs <= 1 ? lookupAtan(abs) : Math.PI / 2 - lookupAtan(1 / abs);
+        return a < 0 ? -result : result;
+    }
+
+    static double atan2(double y, double x) {
+        final double absX = Math.abs(x);
+        final double absY = Math.abs(y);
+
+        if (!(absX < Double.POSITIVE_INFINITY && absY < Double.POSITIVE_INFINITY) || (absX == 0 && absY == 0)) {
+            // NaN, infinite values and signed zeros
+            return Math.atan2(y, x);
+        }
+
+        double angle = absY <= absX ? lookupAtan(absY / absX) : Math.PI / 2 - lookupAtan(absX / absY);
+        if (x < 0) {
+            angle = Math.PI - angle;
+        }
+        return y < 0 || (y == 0 && 1 / y < 0) ? -angle : angle;
+    }
+
+    static double hypot(double x, double y) {
+        final double sum = x * x + y * y;
+
+        // Math.hypot avoids intermediate overflow and underflow, which is only needed at the edges of the range
+        if (sum >= 0x1p-1000 && sum < Double.POSITIVE_INFINITY) {
+            return Math.sqrt(sum);
+        }
+        return Math.hypot(x, y);
+    }
+
+    /**
+     * @param turns the argument in table steps.
+     */
+    private static double lookupSin(double turns) {
+        final double floor = Math.floor(turns);
+        final int index = (int) ((long) floor & (SIN_TABLE_SIZE - 1));
+        final double fraction = turns - floor;
+        return SIN_TABLE[index] + (SIN_TABLE[index + 1] - SIN_TABLE[index]) * fraction;
+    }
+
+    /**
+     * @param a a value between `0` and `1`.
+     */
+    private static double lookupAtan(double a) {
+        final double position = a * ATAN_TABLE_SIZE;
+        final int index = Math.min((int) position, ATAN_TABLE_SIZE - 1);
+        final double fraction = position - index;
+        return ATAN_TABLE[index] + (ATAN_TABLE[index + 1] - ATAN_TABLE[index]) * fraction;
+    }
+}
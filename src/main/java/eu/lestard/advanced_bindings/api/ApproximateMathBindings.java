@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.value.ObservableDoubleValue;
+
+import static eu.lestard.advanced_bindings.api.PrimitiveBindings.*;
+
+/**
+ * This class contains faster but less accurate alternatives to some of the bindings of {@link MathBindings}.
+ * They are meant for workloads like animations that recompute many bindings per frame but don't need results
+ * that are accurate to the last bit.
+ *
+ * The sine, cosine and arc tangent are looked up in tables and interpolated linearly:
+ *
+ * - `sin` and `cos` have an absolute error of less than `5e-7` for arguments with an absolute value up to `2^30`.
+ * Larger arguments are computed with {@link Math} because the reduction to a table index would lose too much
+ * precision there.
+ * - `atan` and `atan2` have an absolute error of less than `1e-7` radians.
+ * - `hypot` computes `sqrt(x² + y²)` directly and only falls back to {@link Math#hypot(double, double)} when
+ * the intermediate result would overflow or underflow. Its relative error is less than `1e-15`.
+ *
+ * `NaN` and infinite arguments produce the same results as the methods of {@link Math}.
+ */
+public class ApproximateMathBindings {
+
+    /**
+     * Approximation of {@link MathBindings#atan(ObservableDoubleValue)}.
+     *
+     * @param a the value whose arc tangent is to be returned.
+     * @return the approximated arc tangent of the argument.
+     */
+    public static DoubleBinding atan(final ObservableDoubleValue a) {
+        return doubleBinding(a, ApproximateMath::atan);
+    }
+
+    /**
+     * Approximation of {@link MathBindings#atan2(ObservableDoubleValue, ObservableDoubleValue)}.
+     *
+     * @param y the ordinate coordinate
+     * @param x the abscissa coordinate
+     * @return the approximated theta component of the point in polar coordinates.
+     */
+    public static DoubleBinding atan2(final ObservableDoubleValue y, final ObservableDoubleValue x) {
+        return doubleBinding(y, x, ApproximateMath::atan2);
+    }
+
+    /**
+     * Approximation of {@link MathBindings#atan2(double, ObservableDoubleValue)}.
+     *
+     * @param y the ordinate coordinate
+     * @param x the abscissa coordinate
+     * @return the approximated theta component of the point in polar coordinates.
+     */
+    public static DoubleBinding atan2(final double y, final ObservableDoubleValue x) {
+        return doubleBinding(x, value -> ApproximateMath.atan2(y, value));
+    }
+
+    /**
+     * Approximation of {@link MathBindings#atan2(ObservableDoubleValue, double)}.
+     *
+     * @param y the ordinate coordinate
+     * @param x the abscissa coordinate
+     * @return the approximated theta component of the point in polar coordinates.
+     */
+    public static DoubleBinding atan2(final ObservableDoubleValue y, final double x) {
+        return doubleBinding(y, value -> ApproximateMath.atan2(value, x));
+    }
+
+    /**
+     * Approximation of {@link MathBindings#cos(ObservableDoubleValue)}.
+     *
+     * @param a an angle, in radians.
+     * @return the approximated cosine of the argument.
+     */
+    public static DoubleBinding cos(final ObservableDoubleValue a) {
+        return doubleBinding(a, ApproximateMath::cos);
+    }
+
+    /**
+     * Faster alternative to {@link MathBindings#hypot(ObservableDoubleValue, ObservableDoubleValue)}.
+     *
+     * @param x a value
+     * @param y a value
+     * @return sqrt(x² + y²)
+     */
+    public static DoubleBinding hypot(final ObservableDoubleValue x, final ObservableDoubleValue y) {
+        return doubleBinding(x, y, ApproximateMath::hypot);
+    }
+
+    /**
+     * Faster alternative to {@link MathBindings#hypot(double, ObservableDoubleValue)}.
+     *
+     * @param x a value
+     * @param y a value
+     * @return sqrt(x² + y²)
+     */
+    public static DoubleBinding hypot(final double x, final ObservableDoubleValue y) {
+        return doubleBinding(y, value -> ApproximateMath.hypot(x, value));
+    }
+
+    /**
+     * Faster alternative to {@link MathBindings#hypot(ObservableDoubleValue, double)}.
+     *
+     * @param x a value
+     * @param y a value
+     * @return sqrt(x² + y²)
+     */
+    public static DoubleBinding hypot(final ObservableDoubleValue x, final double y) {
+        return doubleBinding(x, value -> ApproximateMath.hypot(value, y));
+    }
+
+    /**
+     * Approximation of {@link MathBindings#sin(ObservableDoubleValue)}.
+     *
+     * @param a an angle, in radians.
+     * @return the approximated sine of the argument.
+     */
+    public static DoubleBinding sin(final ObservableDoubleValue a) {
+        return doubleBinding(a, ApproximateMath::sin);
+    }
+}
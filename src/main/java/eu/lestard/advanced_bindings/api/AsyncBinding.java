@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.ObjectBinding;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * An object binding whose value is computed in the background, see for example
+ * {@link ObjectBindings#mapAsync(javafx.beans.value.ObservableValue, java.util.function.Function, Executor)}.
+ *
+ * When one of the dependencies is invalidated, the binding takes a snapshot of the input values on the current
+ * thread and starts a computation with this snapshot on the given executor (see {@link BindingExecutors} for
+ * the default executor and for limiting the number of concurrent computations). The result is published on the
+ * JavaFX application thread (see {@link #setFxExecutor(Executor)}), so the binding is only invalidated when the
+ * new value is available. Until then the binding keeps its previous value.
+ *
+ * Every snapshot starts a new generation. A computation that is still running when a newer generation starts is
+ * cancelled (its thread is interrupted) and its result is discarded even if it finishes anyway. This way the
+ * binding never goes back to a result that was computed from outdated inputs.
+ *
+ * While a computation is running {@link #computing()} is `true`, for example to show a progress indicator:
+ *
+ * ```java
+ * AsyncBinding<Image> thumbnail = ObjectBindings.mapAsync(file, this::loadThumbnail, executor);
+ *
+ * imageView.imageProperty().bind(thumbnail);
+ * progressIndicator.visibleProperty().bind(thumbnail.computing());
+ * ```
+ *
+ * If the computation throws an exception the binding keeps its previous value and the exception is passed to
+ * the uncaught exception handler of the thread that publishes the results.
+ *
+ * @param <T> the type of the value.
+ */
+public final class AsyncBinding<T> extends ObjectBinding<T> {
+
+    private static volatile Executor fxExecutor = Platform::runLater;
+
+    private final Supplier<? extends Callable<? extends T>> snapshot;
+    private final Executor executor;
+    private final ObservableList<Observable> dependencies;
+
+    // the listener is the key of the deferred action because the binding itself is the key of its deferred invalidation
+    private final InvalidationListener listener = observable -> AdvancedBindings.runAfterBatch(this.listener, this::start);
+    private final WeakInvalidationListener weakListener = new WeakInvalidationListener(listener);
+
+    private final ComputingBinding computing = new ComputingBinding();
+
+    private T value;
+
+    private long generation;
+    private FutureTask<T> running;
+
+    /**
+     * @param initialValue the value until the first computation has finished.
+     * @param snapshot     takes a snapshot of the inputs and returns the computation for it.
+     *                     It is invoked on the thread that invalidates the dependencies.
+     * @param executor     the executor that runs the computations.
+     * @param dependencies the dependencies that trigger a new computation.
+     */
+    AsyncBinding(T initialValue, Supplier<? extends Callable<? extends T>> snapshot, Executor executor, Observable... dependencies) {
+        this.value = initialValue;
+        this.snapshot = snapshot;
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.dependencies = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(dependencies));
+
+        for (Observable dependency : dependencies) {
+            dependency.addListener(weakListener);
+        }
+
+        start();
+    }
+
+    /**
+     * Sets the executor that publishes the results of all async bindings. It has to execute the tasks
+     * on the thread that modifies the dependencies of the bindings, which is usually the JavaFX application thread.
+     *
+     * By default {@link Platform#runLater(Runnable)} is used. Applications that use bindings without the JavaFX
+     * toolkit, for example in tests, can use another executor.
+     *
+     * @param executor the executor that publishes results.
+     */
+    public static void setFxExecutor(final Executor executor) {
+        fxExecutor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * @return the executor that publishes the results of async bindings, see {@link #setFxExecutor(Executor)}.
+     */
+    public static Executor getFxExecutor() {
+        return fxExecutor;
+    }
+
+    /**
+     * @return a binding that is `true` while a computation of this binding is running.
+     */
+    public BooleanBinding computing() {
+        return computing;
+    }
+
+    @Override
+    protected T computeValue() {
+        return value;
+    }
+
+    @Override
+    public ObservableList<?> getDependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public void dispose() {
+        for (Observable dependency : dependencies) {
+            dependency.removeListener(weakListener);
+        }
+        cancelRunning();
+        computing.invalidate();
+    }
+
+    private void start() {
+        final long startedGeneration = ++generation;
+        cancelRunning();
+
+        final FutureTask<T> task = new FutureTask<T>(snapshot.get()::call) {
+            @Override
+            protected void done() {
+                if (!isCancelled()) {
+                    fxExecutor.execute(() -> publish(startedGeneration, this));
+                }
+            }
+        };
+
+        running = task;
+        computing.invalidate();
+        executor.execute(task);
+    }
+
+    private void publish(long publishedGeneration, FutureTask<T> task) {
+        if (publishedGeneration != generation) {
+            // a newer computation has been started in the meantime
+            return;
+        }
+
+        running = null;
+        computing.invalidate();
+
+        try {
+            value = task.get();
+            AdvancedBindings.invalidate(this);
+        } catch (ExecutionException e) {
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void cancelRunning() {
+        if (running != null) {
+            running.cancel(true);
+            running = null;
+        }
+    }
+
+    private final class ComputingBinding extends BooleanBinding {
+
+        @Override
+        protected boolean computeValue() {
+            return running != null;
+        }
+    }
+}
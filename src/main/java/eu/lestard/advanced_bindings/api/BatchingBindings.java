@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.Observable;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.FloatBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.LongBinding;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.binding.StringBinding;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.concurrent.Callable;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Counterparts of the factory methods of {@link javafx.beans.binding.Bindings} like
+ * {@link javafx.beans.binding.Bindings#createDoubleBinding(Callable, Observable...)} whose bindings
+ * take {@link AdvancedBindings#batch(Runnable) batches} into account.
+ *
+ * Like the originals, an exception thrown by the function is logged and the binding gets the default value
+ * of its type.
+ */
+final class BatchingBindings {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchingBindings.class.getName());
+
+    private BatchingBindings() {
+    }
+
+    static BooleanBinding createBooleanBinding(final Callable<Boolean> func, final Observable... dependencies) {
+        return new BooleanBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, dependencies);
+
+            @Override
+            protected boolean computeValue() {
+                try {
+                    return func.call();
+                } catch (Exception e) {
+                    logException(e);
+                    return false;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(dependencies);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static IntegerBinding createIntegerBinding(final Callable<Integer> func, final Observable... dependencies) {
+        return new IntegerBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, dependencies);
+
+            @Override
+            protected int computeValue() {
+                try {
+                    return func.call();
+                } catch (Exception e) {
+                    logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(dependencies);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static LongBinding createLongBinding(final Callable<Long> func, final Observable... dependencies) {
+        return new LongBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, dependencies);
+
+            @Override
+            protected long computeValue() {
+                try {
+                    return func.call();
+                } catch (Exception e) {
+                    logException(e);
+                    return 0L;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(dependencies);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static FloatBinding createFloatBinding(final Callable<Float> func, final Observable... dependencies) {
+        return new FloatBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, dependencies);
+
+            @Override
+            protected float computeValue() {
+                try {
+                    return func.call();
+                } catch (Exception e) {
+                    logException(e);
+                    return 0f;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(dependencies);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static DoubleBinding createDoubleBinding(final Callable<Double> func, final Observable... dependencies) {
+        return new DoubleBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, dependencies);
+
+            @Override
+            protected double computeValue() {
+                try {
+                    return func.call();
+                } catch (Exception e) {
+                    logException(e);
+                    return 0.0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(dependencies);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static StringBinding createStringBinding(final Callable<String> func, final Observable... dependencies) {
+        return new StringBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, dependencies);
+
+            @Override
+            protected String computeValue() {
+                try {
+                    return func.call();
+                } catch (Exception e) {
+                    logException(e);
+                    return "";
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(dependencies);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static <T> ObjectBinding<T> createObjectBinding(final Callable<T> func, final Observable... dependencies) {
+        return new ObjectBinding<T>() {
+            private final BatchingObserver observer = new BatchingObserver(this, dependencies);
+
+            @Override
+            protected T computeValue() {
+                try {
+                    return func.call();
+                } catch (Exception e) {
+                    logException(e);
+                    return null;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(dependencies);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    private static ObservableList<?> dependencies(Observable... dependencies) {
+        return dependencies.length == 1
+                ? FXCollections.singletonObservableList(dependencies[0])
+                : FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(dependencies));
+    }
+
+    static void logException(Exception e) {
+        LOGGER.log(Level.WARNING, "Exception while evaluating binding", e);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakListener;
+import javafx.beans.binding.Binding;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Invalidates a binding when one of its dependencies is invalidated, like `Binding.bind(Observable...)` does,
+ * but takes {@link AdvancedBindings#batch(Runnable) batches} into account.
+ *
+ * Like the listener used by `bind` it only references the binding weakly, so the dependencies don't keep
+ * the binding alive.
+ */
+final class BatchingObserver implements InvalidationListener, WeakListener {
+
+    private final WeakReference<Binding<?>> binding;
+    private final Observable[] dependencies;
+
+    /**
+     * Registers the observer at the dependencies.
+     */
+    BatchingObserver(Binding<?> binding, Observable... dependencies) {
+        this.binding = new WeakReference<>(binding);
+        this.dependencies = dependencies;
+
+        for (Observable dependency : dependencies) {
+            dependency.addListener(this);
+        }
+    }
+
+    @Override
+    public void invalidated(Observable observable) {
+        final Binding<?> binding = this.binding.get();
+
+        if (binding == null) {
+            observable.removeListener(this);
+        } else {
+            AdvancedBindings.invalidate(binding);
+        }
+    }
+
+    @Override
+    public boolean wasGarbageCollected() {
+        return binding.get() == null;
+    }
+
+    /**
+     * Removes the observer from the dependencies.
+     */
+    void dispose() {
+        for (Observable dependency : dependencies) {
+            dependency.removeListener(this);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for the computations of {@link AsyncBinding}s.
+ *
+ * The async factory methods without an executor parameter, like
+ * {@link ObjectBindings#mapAsync(javafx.beans.value.ObservableValue, java.util.function.Function)}, use the
+ * {@link #getDefaultExecutor() default executor}. On Java 21 and newer it starts a virtual thread per computation,
+ * so thousands of bindings that wait for blocking I/O don't each occupy a platform thread. On older versions
+ * it is a bounded pool of daemon threads.
+ *
+ * To limit how many computations of a group of bindings run at the same time, for example the lookups for
+ * the rows of a table, the bindings can share a {@link #limited(int) limited executor}:
+ *
+ * ```java
+ * BindingExecutors.LimitedExecutor lookups = BindingExecutors.limited(8);
+ *
+ * AsyncBinding<Customer> customer = ObjectBindings.mapAsync(customerId, repository::find, lookups);
+ *
+ * lookups.getQueuedTaskCount(); // the number of lookups that wait for one of the 8 slots
+ * ```
+ */
+public final class BindingExecutors {
+
+    /**
+     * An executor that runs at most a fixed number of tasks at the same time on another executor.
+     * Further tasks are queued in the order they are submitted.
+     */
+    public static final class LimitedExecutor implements Executor {
+
+        private final Executor delegate;
+        private final int maxConcurrency;
+
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+        private int activeCount;
+        private long completedTaskCount;
+
+        private LimitedExecutor(Executor delegate, int maxConcurrency) {
+            this.delegate = delegate;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            Objects.requireNonNull(task, "task");
+
+            synchronized (this) {
+                queue.add(task);
+                if (activeCount == maxConcurrency) {
+                    return;
+                }
+                activeCount++;
+            }
+
+            try {
+                delegate.execute(this::runQueuedTasks);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    activeCount--;
+                    queue.remove(task);
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * @return the maximal number of tasks that run at the same time.
+         */
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        /**
+         * @return the number of tasks that have been submitted but haven't been started yet.
+         */
+        public synchronized int getQueuedTaskCount() {
+            return queue.size();
+        }
+
+        /**
+         * @return the number of slots that are currently used to run tasks.
+         */
+        public synchronized int getActiveCount() {
+            return activeCount;
+        }
+
+        /**
+         * @return the number of tasks that have been finished.
+         */
+        public synchronized long getCompletedTaskCount() {
+            return completedTaskCount;
+        }
+
+        /**
+         * Runs queued tasks in one of the slots until the queue is empty.
+         */
+        private void runQueuedTasks() {
+            while (true) {
+                final Runnable task;
+                synchronized (this) {
+                    task = queue.poll();
+                    if (task == null) {
+                        activeCount--;
+                        return;
+                    }
+                }
+
+                try {
+                    task.run();
+                } catch (RuntimeException | Error e) {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                } finally {
+                    synchronized (this) {
+                        completedTaskCount++;
+                    }
+                }
+            }
+        }
+    }
+
+    private static Executor defaultExecutor;
+
+    private BindingExecutors() {
+    }
+
+    /**
+     * @return the executor that is used by async bindings for which no executor is given.
+     */
+    public static synchronized Executor getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = createDefaultExecutor();
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Replaces the executor that is used by async bindings for which no executor is given.
+     * Bindings that have already been created keep their executor.
+     *
+     * @param executor the new default executor.
+     */
+    public static synchronized void setDefaultExecutor(final Executor executor) {
+        defaultExecutor = Objects.requireNonNull(executor, "executor");
+    }
+
+    /**
+     * Creates an executor that runs at most the given number of tasks at the same time on the
+     * {@link #getDefaultExecutor() default executor}.
+     *
+     * @param maxConcurrency the maximal number of tasks that run at the same time.
+     * @return the limited executor.
+     * @throws IllegalArgumentException if `maxConcurrency` is not positive.
+     */
+    public static LimitedExecutor limited(final int maxConcurrency) {
+        return limited(getDefaultExecutor(), maxConcurrency);
+    }
+
+    /**
+     * Creates an executor that runs at most the given number of tasks at the same time on the given executor.
+     *
+     * @param executor the executor that runs the tasks.
+     * @param maxConcurrency the maximal number of tasks that run at the same time.
+     * @return the limited executor.
+     * @throws IllegalArgumentException if `maxConcurrency` is not positive.
+     */
+    public static LimitedExecutor limited(final Executor executor, final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The concurrency has to be positive but was " + maxConcurrency);
+        }
+        return new LimitedExecutor(Objects.requireNonNull(executor, "executor"), maxConcurrency);
+    }
+
+    /**
+     * The library is compiled for Java 8, so the virtual thread executor is looked up with reflection.
+     */
+    private static Executor createDefaultExecutor() {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return createThreadPool();
+        }
+    }
+
+    private static Executor createThreadPool() {
+        final int size = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, "advanced-bindings-async-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
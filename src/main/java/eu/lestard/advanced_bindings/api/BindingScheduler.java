@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+import java.util.PriorityQueue;
+
+/**
+ * Schedules the delayed tasks of time based bindings like {@link TimedBindings#throttle(javafx.beans.value.ObservableValue, Duration)}.
+ *
+ * The tasks have to be executed on the thread that modifies the sources of the bindings. The scheduler returned by
+ * {@link #fx()} runs them on the JavaFX application thread as part of the animation pulse. For tests and for code
+ * that runs without the JavaFX toolkit there is a {@link Virtual virtual scheduler} whose time only advances
+ * when it is told to.
+ */
+public interface BindingScheduler {
+
+    /**
+     * A task that has been scheduled.
+     */
+    @FunctionalInterface
+    interface ScheduledTask {
+
+        /**
+         * Prevents the task from being executed if it hasn't been executed yet.
+         */
+        void cancel();
+    }
+
+    /**
+     * Runs the given task once after the given delay.
+     *
+     * @param delay the delay.
+     * @param task the task.
+     * @return the scheduled task that can be cancelled.
+     */
+    ScheduledTask schedule(Duration delay, Runnable task);
+
+    /**
+     * Runs the given task once at the next pulse, i.e. before the next frame is rendered.
+     * All tasks that are scheduled for the same pulse are executed together.
+     *
+     * By default the task is scheduled without delay.
+     *
+     * @param task the task.
+     * @return the scheduled task that can be cancelled.
+     */
+    default ScheduledTask scheduleOnNextPulse(Runnable task) {
+        return schedule(Duration.ZERO, task);
+    }
+
+    /**
+     * @return a scheduler that uses a {@link PauseTransition} for every delayed task and a single
+     * {@link javafx.animation.AnimationTimer} for the tasks of the next pulse. The tasks are executed
+     * on the JavaFX application thread.
+     */
+    static BindingScheduler fx() {
+        return FxBindingScheduler.INSTANCE;
+    }
+
+    /**
+     * A scheduler with a virtual time that only advances with {@link #advance(Duration)}.
+     * The due tasks are executed on the thread that advances the time, in the order of their due times.
+     *
+     * ```java
+     * BindingScheduler.Virtual scheduler = new BindingScheduler.Virtual();
+     *
+     * ObjectBinding<String> debounced = TimedBindings.debounce(searchText, Duration.millis(300), scheduler);
+     *
+     * searchText.set("java");
+     * scheduler.advance(Duration.millis(300)); // debounced now contains "java"
+     * ```
+     */
+    final class Virtual implements BindingScheduler {
+
+        private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+        private double now;
+        private long sequence;
+
+        @Override
+        public ScheduledTask schedule(Duration delay, Runnable task) {
+            final Entry entry = new Entry(now + delay.toMillis(), sequence++, task);
+            queue.add(entry);
+            return () -> queue.remove(entry);
+        }
+
+        /**
+         * Advances the time and executes all tasks that become due, including tasks that are scheduled
+         * by these tasks.
+         *
+         * @param duration the duration by which the time advances.
+         */
+        public void advance(Duration duration) {
+            final double target = now + duration.toMillis();
+
+            while (!queue.isEmpty() && queue.peek().dueTime <= target) {
+                final Entry entry = queue.poll();
+                now = entry.dueTime;
+                entry.task.run();
+            }
+
+            now = target;
+        }
+
+        /**
+         * Simulates a pulse by executing the tasks that are due without advancing the time.
+         * This includes the tasks that have been scheduled for the next pulse.
+         */
+        public void pulse() {
+            advance(Duration.ZERO);
+        }
+
+        /**
+         * @return the current virtual time since the creation of the scheduler.
+         */
+        public Duration now() {
+            return Duration.millis(now);
+        }
+
+        /**
+         * @return the number of tasks that are scheduled but not executed yet.
+         */
+        public int getScheduledTaskCount() {
+            return queue.size();
+        }
+
+        private static final class Entry implements Comparable<Entry> {
+
+            private final double dueTime;
+            private final long sequence;
+            private final Runnable task;
+
+            private Entry(double dueTime, long sequence, Runnable task) {
+                this.dueTime = dueTime;
+                this.sequence = sequence;
+                this.task = task;
+            }
+
+            @Override
+            public int compareTo(Entry other) {
+                final int byTime = Double.compare(dueTime, other.dueTime);
+                return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+            }
+        }
+    }
+}
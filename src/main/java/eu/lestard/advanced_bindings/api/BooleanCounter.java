@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts how many of a number of observable boolean values are `true`.
+ *
+ * Every value gets a {@link ChangeListener} that adjusts the count by one when the value flips, so
+ * a change of a single value is handled in constant time no matter how many values are counted.
+ * Bindings created with {@link #createBinding(CountPredicate)} are computed from the count only.
+ * A `null` value is counted as `false`.
+ *
+ * The values are taken from an observable list. When values are added to or removed from the list only
+ * these values are registered or unregistered.
+ *
+ * The counter is registered at the list and the values with weak listeners and is kept alive by its bindings.
+ */
+final class BooleanCounter implements ChangeListener<Boolean>, ListChangeListener<ObservableValue<Boolean>> {
+
+    /**
+     * A condition on the number of `true` values.
+     */
+    @FunctionalInterface
+    interface CountPredicate {
+        boolean test(int trueCount, int size);
+    }
+
+    private final ObservableList<? extends ObservableValue<Boolean>> values;
+
+    private final WeakChangeListener<Boolean> weakListener = new WeakChangeListener<>(this);
+    private final WeakListChangeListener<ObservableValue<Boolean>> weakListListener = new WeakListChangeListener<>(this);
+    private final List<CountBinding> bindings = new ArrayList<>(1);
+
+    private int trueCount;
+
+    // the array is only copied into the list
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    BooleanCounter(ObservableValue<Boolean>... values) {
+        this(FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(values)));
+    }
+
+    @SuppressWarnings("unchecked")
+    BooleanCounter(ObservableList<? extends ObservableValue<Boolean>> values) {
+        this.values = values;
+
+        values.forEach(this::register);
+        ((ObservableList<ObservableValue<Boolean>>) values).addListener(weakListListener);
+    }
+
+    /**
+     * Creates a binding that is `true` while the number of `true` values fulfills the given condition.
+     * The binding is only invalidated when a change of the values changes the result of the condition.
+     */
+    BooleanBinding createBinding(CountPredicate predicate) {
+        final ConditionBinding binding = new ConditionBinding(predicate);
+        bindings.add(binding);
+        return binding;
+    }
+
+    /**
+     * Creates a binding whose value is the number of `true` values.
+     */
+    IntegerBinding createCountBinding() {
+        final TrueCountBinding binding = new TrueCountBinding();
+        bindings.add(binding);
+        return binding;
+    }
+
+    @Override
+    public void changed(ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean newValue) {
+        final boolean wasTrue = isTrue(oldValue);
+        final boolean isTrue = isTrue(newValue);
+
+        if (wasTrue == isTrue) {
+            // a change between null and false
+            return;
+        }
+
+        trueCount += isTrue ? 1 : -1;
+        countChanged();
+    }
+
+    @Override
+    public void onChanged(Change<? extends ObservableValue<Boolean>> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+
+            change.getRemoved().forEach(this::unregister);
+            change.getAddedSubList().forEach(this::register);
+        }
+
+        countChanged();
+    }
+
+    private void register(ObservableValue<Boolean> value) {
+        value.addListener(weakListener);
+        if (isTrue(value.getValue())) {
+            trueCount++;
+        }
+    }
+
+    private void unregister(ObservableValue<Boolean> value) {
+        value.removeListener(weakListener);
+        if (isTrue(value.getValue())) {
+            trueCount--;
+        }
+    }
+
+    private void countChanged() {
+        for (CountBinding binding : bindings) {
+            binding.countChanged();
+        }
+    }
+
+    private static boolean isTrue(Boolean value) {
+        return Boolean.TRUE.equals(value);
+    }
+
+    private void dispose(CountBinding binding) {
+        bindings.remove(binding);
+
+        if (bindings.isEmpty()) {
+            values.forEach(value -> value.removeListener(weakListener));
+            values.removeListener(weakListListener);
+        }
+    }
+
+    /**
+     * A binding that has to be checked when the count or the number of values has changed.
+     */
+    private interface CountBinding {
+        void countChanged();
+    }
+
+    private final class ConditionBinding extends BooleanBinding implements CountBinding {
+
+        private final CountPredicate predicate;
+
+        private ConditionBinding(CountPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected boolean computeValue() {
+            return predicate.test(trueCount, values.size());
+        }
+
+        @Override
+        public void countChanged() {
+            // an invalid binding is recomputed anyway and a valid one only has to be invalidated if its value changes
+            if (isValid() && get() != computeValue()) {
+                AdvancedBindings.invalidate(this);
+            }
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return values;
+        }
+
+        @Override
+        public void dispose() {
+            BooleanCounter.this.dispose(this);
+        }
+
+    }
+
+    private final class TrueCountBinding extends IntegerBinding implements CountBinding {
+
+        @Override
+        protected int computeValue() {
+            return trueCount;
+        }
+
+        @Override
+        public void countChanged() {
+            if (isValid() && get() != trueCount) {
+                AdvancedBindings.invalidate(this);
+            }
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return values;
+        }
+
+        @Override
+        public void dispose() {
+            BooleanCounter.this.dispose(this);
+        }
+
+    }
+}
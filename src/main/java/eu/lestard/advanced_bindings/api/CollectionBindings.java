@@ -21,15 +21,19 @@
  */
 package eu.lestard.advanced_bindings.api;
 
-import javafx.beans.Observable;
-import javafx.beans.binding.Bindings;
+import javafx.beans.binding.DoubleBinding;
 import javafx.beans.binding.NumberBinding;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableValue;
-import javafx.collections.FXCollections;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
 import javafx.collections.ObservableList;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -42,87 +46,556 @@ import java.util.stream.Collectors;
  * @author andres almiray
  */
 public class CollectionBindings {
+
+    /**
+     * Bindings of the basic aggregates of the same list of numbers, see {@link #aggregates(ObservableList)}.
+     *
+     * All bindings share one listener on the list and one state object. They are invalidated together after
+     * a list change has been applied to the state, so observers never see a mix of old and new aggregates.
+     * The bindings are `NaN` while the list is empty, except for the sum which is `0`.
+     */
+    public static final class Aggregates {
+
+        private final NumberBinding min;
+        private final NumberBinding max;
+        private final NumberBinding sum;
+        private final NumberBinding average;
+
+        private Aggregates(final ObservableList<? extends Number> numbers) {
+            final NumberListAggregation<MultisetAggregator<CompensatedSum>> aggregation =
+                    new NumberListAggregation<>(numbers, new MultisetAggregator<>(new CompensatedSum()));
+            final CompensatedSum sum = aggregation.getAggregator().aggregator();
+            final DoubleMultiset values = aggregation.getAggregator().values();
+
+            this.min = aggregation.createBinding(values::min);
+            this.max = aggregation.createBinding(values::max);
+            this.sum = aggregation.createBinding(sum::sum);
+            this.average = aggregation.createBinding(sum::average);
+        }
+
+        /**
+         * @return a binding of the smallest number.
+         */
+        public NumberBinding min() {
+            return min;
+        }
+
+        /**
+         * @return a binding of the largest number.
+         */
+        public NumberBinding max() {
+            return max;
+        }
+
+        /**
+         * @return a binding of the sum of the numbers.
+         */
+        public NumberBinding sum() {
+            return sum;
+        }
+
+        /**
+         * @return a binding of the arithmetic mean of the numbers.
+         */
+        public NumberBinding average() {
+            return average;
+        }
+    }
+
+    /**
+     * Bindings of statistics over the same list of numbers, see {@link #statistics(ObservableList)}.
+     *
+     * All bindings share one listener on the list and one state object that is updated with
+     * the added and removed elements of each list change. The bindings are `NaN` while the list is empty.
+     */
+    public static final class Statistics {
+
+        private final DoubleBinding mean;
+        private final DoubleBinding variance;
+        private final DoubleBinding sampleVariance;
+        private final DoubleBinding standardDeviation;
+        private final DoubleBinding min;
+        private final DoubleBinding max;
+        private final DoubleBinding range;
+
+        private Statistics(final ObservableList<? extends Number> numbers) {
+            final NumberListAggregation<MultisetAggregator<RunningMoments>> aggregation =
+                    new NumberListAggregation<>(numbers, new MultisetAggregator<>(new RunningMoments()));
+            final RunningMoments moments = aggregation.getAggregator().aggregator();
+            final DoubleMultiset values = aggregation.getAggregator().values();
+
+            mean = aggregation.createBinding(moments::mean);
+            variance = aggregation.createBinding(moments::variance);
+            sampleVariance = aggregation.createBinding(moments::sampleVariance);
+            standardDeviation = aggregation.createBinding(() -> Math.sqrt(moments.variance()));
+            min = aggregation.createBinding(values::min);
+            max = aggregation.createBinding(values::max);
+            range = aggregation.createBinding(() -> values.max() - values.min());
+        }
+
+        /**
+         * @return a binding of the arithmetic mean of the numbers.
+         */
+        public DoubleBinding mean() {
+            return mean;
+        }
+
+        /**
+         * @return a binding of the population variance of the numbers.
+         */
+        public DoubleBinding variance() {
+            return variance;
+        }
+
+        /**
+         * @return a binding of the sample variance of the numbers. It is `NaN` as long as there are less than two numbers.
+         */
+        public DoubleBinding sampleVariance() {
+            return sampleVariance;
+        }
+
+        /**
+         * @return a binding of the population standard deviation of the numbers.
+         */
+        public DoubleBinding standardDeviation() {
+            return standardDeviation;
+        }
+
+        /**
+         * @return a binding of the smallest number.
+         */
+        public DoubleBinding min() {
+            return min;
+        }
+
+        /**
+         * @return a binding of the largest number.
+         */
+        public DoubleBinding max() {
+            return max;
+        }
+
+        /**
+         * @return a binding of the difference between the largest and the smallest number.
+         */
+        public DoubleBinding range() {
+            return range;
+        }
+    }
+
+    /**
+     * Sets the collection size from which full recomputations of collection bindings are done in parallel.
+     *
+     * Most bindings of this class are updated incrementally, but some changes still require a pass over the
+     * whole collection: the initial computation, a list change that replaces all elements (e.g. `setAll`),
+     * updates of a list with an extractor, a change of the reducer of `reducing` and `reduceAndMap` bindings
+     * and so on. For collections with at least `threshold` elements such a pass takes a snapshot of the collection
+     * and aggregates it in parallel on a dedicated fork/join pool. The calling thread waits for the result,
+     * so the binding still gets its new value at once.
+     *
+     * Reducers are combined in a different grouping when the reduction is done in parallel, so they **must**
+     * be associative.
+     *
+     * By default full recomputations are always done sequentially.
+     *
+     * @param threshold the minimal size of collections that are aggregated in parallel.
+     *                  Use `Integer.MAX_VALUE` to disable the parallel aggregation.
+     *
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void setParallelThreshold(final int threshold) {
+        ParallelAggregation.setThreshold(threshold);
+    }
+
+    /**
+     * @return the collection size from which full recomputations are done in parallel,
+     * see {@link #setParallelThreshold(int)}.
+     */
+    public static int getParallelThreshold() {
+        return ParallelAggregation.getThreshold();
+    }
+
+    /**
+     * Creates the minimum, maximum, sum and average of the numbers in the list at once.
+     *
+     * Binding {@link #min(ObservableList, Number)}, {@link #max(ObservableList, Number)}, {@link #sum(ObservableList)}
+     * and {@link #average(ObservableList, Number)} of the same list registers four listeners that each process
+     * every change. The aggregates instead register a single listener whose state is shared by all four bindings,
+     * so each change is only processed once.
+     *
+     * @param numbers the observable list of numbers.
+     *
+     * @return the aggregates of the list.
+     */
+    public static Aggregates aggregates(final ObservableList<? extends Number> numbers) {
+        return new Aggregates(numbers);
+    }
+
+    /**
+     * Creates statistics of the numbers in the list whose values are kept up to date when the list changes.
+     *
+     * The mean and variance are maintained with Welford's online algorithm and the minimum and maximum with
+     * an ordered multiset of the numbers. A list change only passes the added and removed elements to this state,
+     * which is shared by all bindings of the statistics. This is a lot cheaper than a full pass over the list
+     * for each statistic. Like with {@link Math#min(double, double)} the statistics are `NaN` as long as there is
+     * a `NaN` value in the list.
+     *
+     * @param numbers the observable list of numbers.
+     *
+     * @return the statistics of the list.
+     */
+    public static Statistics statistics(final ObservableList<? extends Number> numbers) {
+        return new Statistics(numbers);
+    }
+
     /**
      * Creates a number binding that computes the minimum value amongst elements.
      *
+     * The binding keeps the values of the list in an ordered multiset that is updated with the added
+     * and removed elements of each list change. This way a change costs O(log n) for each changed element
+     * instead of a scan of the whole list.
+     *
      * @param numbers      the observable list of numbers.
      * @param defaultValue the value to be returned if there is no value present.
      *
      * @return a number binding
      */
     public static NumberBinding min(final ObservableList<? extends Number> numbers, final Number defaultValue) {
-        return Bindings.createDoubleBinding(() -> numbers.stream().mapToDouble(Number::doubleValue).min().orElse(defaultValue.doubleValue()), numbers);
+        return min(numbers, () -> defaultValue);
     }
 
     /**
      * Creates a number binding that computes the minimum value amongst elements.
      *
+     * See {@link #min(ObservableList, Number)} for details on how the value is computed.
+     *
      * @param numbers  the observable list of numbers.
      * @param supplier a {@code Supplier} whose result is returned if no value is present.
      *
      * @return a number binding
      */
     public static NumberBinding min(final ObservableList<? extends Number> numbers, final Supplier<? extends Number> supplier) {
-        return Bindings.createDoubleBinding(() -> numbers.stream().mapToDouble(Number::doubleValue).min().orElse(supplier.get().doubleValue()), numbers);
+        final DoubleMultiset values = new DoubleMultiset();
+        return new NumberListAggregation<>(numbers, values)
+            .createBinding(() -> values.isEmpty() ? supplier.get().doubleValue() : values.min());
     }
 
     /**
      * Creates a number binding that computes the maximum value amongst elements.
      *
+     * The binding keeps the values of the list in an ordered multiset that is updated with the added
+     * and removed elements of each list change. This way a change costs O(log n) for each changed element
+     * instead of a scan of the whole list.
+     *
      * @param numbers      the observable list of numbers.
      * @param defaultValue the value to be returned if there is no value present.
      *
      * @return a number binding
      */
     public static NumberBinding max(final ObservableList<? extends Number> numbers, final Number defaultValue) {
-        return Bindings.createDoubleBinding(() -> numbers.stream().mapToDouble(Number::doubleValue).max().orElse(defaultValue.doubleValue()), numbers);
+        return max(numbers, () -> defaultValue);
     }
 
     /**
      * Creates a number binding that computes the maximum value amongst elements.
      *
+     * See {@link #max(ObservableList, Number)} for details on how the value is computed.
+     *
      * @param numbers  the observable list of numbers.
      * @param supplier a {@code Supplier} whose result is returned if no value is present.
      *
      * @return a number binding
      */
     public static NumberBinding max(final ObservableList<? extends Number> numbers, final Supplier<? extends Number> supplier) {
-        return Bindings.createDoubleBinding(() -> numbers.stream().mapToDouble(Number::doubleValue).max().orElse(supplier.get().doubleValue()), numbers);
+        final DoubleMultiset values = new DoubleMultiset();
+        return new NumberListAggregation<>(numbers, values)
+            .createBinding(() -> values.isEmpty() ? supplier.get().doubleValue() : values.max());
     }
 
     /**
      * Creates a number binding that computes the average value amongst elements.
      *
+     * The binding keeps a running sum and count that is updated with the added and removed elements
+     * of each list change. This way a change only costs O(k) where k is the number of changed elements.
+     * The running sum is compensated (Kahan-Neumaier summation) so that it doesn't drift after many changes.
+     *
      * @param numbers      the observable list of numbers.
      * @param defaultValue the value to be returned if there is no value present.
      *
      * @return a number binding
      */
     public static NumberBinding average(final ObservableList<? extends Number> numbers, final Number defaultValue) {
-        return Bindings.createDoubleBinding(() -> numbers.stream().mapToDouble(Number::doubleValue).average().orElse(defaultValue.doubleValue()), numbers);
+        return average(numbers, () -> defaultValue);
     }
 
     /**
      * Creates a number binding that computes the average value amongst elements.
      *
+     * See {@link #average(ObservableList, Number)} for details on how the value is computed.
+     *
      * @param numbers  the observable list of numbers.
      * @param supplier a {@code Supplier} whose result is returned if no value is present.
      *
      * @return a number binding
      */
     public static NumberBinding average(final ObservableList<? extends Number> numbers, final Supplier<? extends Number> supplier) {
-        return Bindings.createDoubleBinding(() -> numbers.stream().mapToDouble(Number::doubleValue).average().orElse(supplier.get().doubleValue()), numbers);
+        final CompensatedSum sum = new CompensatedSum();
+        return new NumberListAggregation<>(numbers, sum)
+            .createBinding(() -> sum.count() == 0 ? supplier.get().doubleValue() : sum.average());
     }
 
     /**
      * Creates a number binding that contains the sum of the numbers of the given observable list of numbers.
      *
+     * The binding keeps a running sum that is updated with the added and removed elements
+     * of each list change. This way a change only costs O(k) where k is the number of changed elements.
+     * The running sum is compensated (Kahan-Neumaier summation) so that it doesn't drift after many changes.
+     *
      * @param numbers the observable list of numbers.
      *
      * @return a number binding.
      */
     public static NumberBinding sum(final ObservableList<? extends Number> numbers) {
-        return Bindings.createDoubleBinding(() -> numbers.stream().mapToDouble(Number::doubleValue).sum(), numbers);
+        final CompensatedSum sum = new CompensatedSum();
+        return new NumberListAggregation<>(numbers, sum).createBinding(sum::sum);
+    }
+
+    /**
+     * Creates a number binding that computes the median of the elements.
+     *
+     * See {@link #percentile(ObservableList, ObservableDoubleValue)} for details.
+     *
+     * @param numbers the observable list of numbers.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding median(final ObservableList<? extends Number> numbers) {
+        final DoubleMultiset values = new DoubleMultiset();
+        return new NumberListAggregation<>(numbers, values).createBinding(() -> values.percentile(50));
+    }
+
+    /**
+     * Creates a number binding that computes the given percentile of the elements.
+     * Between the closest ranks the percentile is interpolated linearly, e.g. the 50th percentile of an even
+     * number of elements is the mean of the two middle elements.
+     *
+     * The binding keeps the values of the list in an ordered multiset where each node knows the number of values
+     * in its subtree. The multiset is updated with the added and removed elements of each list change, so neither
+     * a change nor a new percentile requires to copy and sort the list. Both cost O(log n) instead.
+     *
+     * The value of the binding is `NaN` if the list is empty, contains a `NaN` value or the percentile is
+     * not between `0` and `100`.
+     *
+     * @param numbers the observable list of numbers.
+     * @param p       the percentile between `0` and `100`.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding percentile(final ObservableList<? extends Number> numbers, final ObservableDoubleValue p) {
+        final DoubleMultiset values = new DoubleMultiset();
+        return new NumberListAggregation<>(numbers, values).createBinding(() -> values.percentile(p.get()), p);
+    }
+
+    /**
+     * Creates a number binding that computes the minimum value amongst the elements of an observable integer array.
+     *
+     * The values are not boxed. The binding keeps an unboxed copy of the array to know the previous values of a
+     * changed range. A change only costs O(k) for k changed elements unless the current minimum is overwritten,
+     * in which case the copy is scanned once when the value is requested the next time.
+     *
+     * @param numbers      the observable array of numbers.
+     * @param defaultValue the value to be returned if there is no value present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding min(final ObservableIntegerArray numbers, final Number defaultValue) {
+        return min(numbers, () -> defaultValue);
+    }
+
+    /**
+     * Creates a number binding that computes the minimum value amongst the elements of an observable integer array.
+     *
+     * See {@link #min(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers  the observable array of numbers.
+     * @param supplier a {@code Supplier} whose result is returned if no value is present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding min(final ObservableIntegerArray numbers, final Supplier<? extends Number> supplier) {
+        return min(NumberArrayAggregation.of(numbers, new DoubleExtremes()), supplier);
+    }
+
+    /**
+     * Creates a number binding that computes the minimum value amongst the elements of an observable float array.
+     *
+     * See {@link #min(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers      the observable array of numbers.
+     * @param defaultValue the value to be returned if there is no value present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding min(final ObservableFloatArray numbers, final Number defaultValue) {
+        return min(numbers, () -> defaultValue);
+    }
+
+    /**
+     * Creates a number binding that computes the minimum value amongst the elements of an observable float array.
+     *
+     * See {@link #min(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers  the observable array of numbers.
+     * @param supplier a {@code Supplier} whose result is returned if no value is present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding min(final ObservableFloatArray numbers, final Supplier<? extends Number> supplier) {
+        return min(NumberArrayAggregation.of(numbers, new DoubleExtremes()), supplier);
+    }
+
+    /**
+     * Creates a number binding that computes the maximum value amongst the elements of an observable integer array.
+     *
+     * The values are not boxed. The binding keeps an unboxed copy of the array to know the previous values of a
+     * changed range. A change only costs O(k) for k changed elements unless the current maximum is overwritten,
+     * in which case the copy is scanned once when the value is requested the next time.
+     *
+     * @param numbers      the observable array of numbers.
+     * @param defaultValue the value to be returned if there is no value present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding max(final ObservableIntegerArray numbers, final Number defaultValue) {
+        return max(numbers, () -> defaultValue);
+    }
+
+    /**
+     * Creates a number binding that computes the maximum value amongst the elements of an observable integer array.
+     *
+     * See {@link #max(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers  the observable array of numbers.
+     * @param supplier a {@code Supplier} whose result is returned if no value is present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding max(final ObservableIntegerArray numbers, final Supplier<? extends Number> supplier) {
+        return max(NumberArrayAggregation.of(numbers, new DoubleExtremes()), supplier);
+    }
+
+    /**
+     * Creates a number binding that computes the maximum value amongst the elements of an observable float array.
+     *
+     * See {@link #max(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers      the observable array of numbers.
+     * @param defaultValue the value to be returned if there is no value present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding max(final ObservableFloatArray numbers, final Number defaultValue) {
+        return max(numbers, () -> defaultValue);
+    }
+
+    /**
+     * Creates a number binding that computes the maximum value amongst the elements of an observable float array.
+     *
+     * See {@link #max(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers  the observable array of numbers.
+     * @param supplier a {@code Supplier} whose result is returned if no value is present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding max(final ObservableFloatArray numbers, final Supplier<? extends Number> supplier) {
+        return max(NumberArrayAggregation.of(numbers, new DoubleExtremes()), supplier);
+    }
+
+    /**
+     * Creates a number binding that computes the average value amongst the elements of an observable integer array.
+     *
+     * The values are not boxed. The binding keeps an unboxed copy of the array to know the previous values of a
+     * changed range and a compensated running sum, so a change only costs O(k) for k changed elements.
+     *
+     * @param numbers      the observable array of numbers.
+     * @param defaultValue the value to be returned if there is no value present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding average(final ObservableIntegerArray numbers, final Number defaultValue) {
+        return average(numbers, () -> defaultValue);
+    }
+
+    /**
+     * Creates a number binding that computes the average value amongst the elements of an observable integer array.
+     *
+     * See {@link #average(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers  the observable array of numbers.
+     * @param supplier a {@code Supplier} whose result is returned if no value is present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding average(final ObservableIntegerArray numbers, final Supplier<? extends Number> supplier) {
+        return average(NumberArrayAggregation.of(numbers, new CompensatedSum()), supplier);
+    }
+
+    /**
+     * Creates a number binding that computes the average value amongst the elements of an observable float array.
+     *
+     * See {@link #average(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers      the observable array of numbers.
+     * @param defaultValue the value to be returned if there is no value present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding average(final ObservableFloatArray numbers, final Number defaultValue) {
+        return average(numbers, () -> defaultValue);
+    }
+
+    /**
+     * Creates a number binding that computes the average value amongst the elements of an observable float array.
+     *
+     * See {@link #average(ObservableIntegerArray, Number)} for details on how the value is computed.
+     *
+     * @param numbers  the observable array of numbers.
+     * @param supplier a {@code Supplier} whose result is returned if no value is present.
+     *
+     * @return a number binding
+     */
+    public static NumberBinding average(final ObservableFloatArray numbers, final Supplier<? extends Number> supplier) {
+        return average(NumberArrayAggregation.of(numbers, new CompensatedSum()), supplier);
+    }
+
+    /**
+     * Creates a number binding that contains the sum of the elements of an observable integer array.
+     *
+     * The values are not boxed. The binding keeps an unboxed copy of the array to know the previous values of a
+     * changed range and a compensated running sum, so a change only costs O(k) for k changed elements.
+     *
+     * @param numbers the observable array of numbers.
+     *
+     * @return a number binding.
+     */
+    public static NumberBinding sum(final ObservableIntegerArray numbers) {
+        final CompensatedSum sum = new CompensatedSum();
+        return NumberArrayAggregation.of(numbers, sum).createBinding(sum::sum);
+    }
+
+    /**
+     * Creates a number binding that contains the sum of the elements of an observable float array.
+     *
+     * See {@link #sum(ObservableIntegerArray)} for details on how the value is computed.
+     *
+     * @param numbers the observable array of numbers.
+     *
+     * @return a number binding.
+     */
+    public static NumberBinding sum(final ObservableFloatArray numbers) {
+        final CompensatedSum sum = new CompensatedSum();
+        return NumberArrayAggregation.of(numbers, sum).createBinding(sum::sum);
     }
 
     /**
@@ -134,7 +607,28 @@ public class CollectionBindings {
      * @return a string binding.
      */
     public static StringBinding join(final ObservableList<?> items, final ObservableValue<String> delimiter) {
-        return Bindings.createStringBinding(() -> items.stream().map(String::valueOf).collect(Collectors.joining(delimiter.getValue())), items, delimiter);
+        return BatchingBindings.createStringBinding(() -> items.stream().map(String::valueOf).collect(Collectors.joining(delimiter.getValue())), items, delimiter);
+    }
+
+    /**
+     * Creates a string binding that constructs a sequence of characters separated by a delimiter.
+     *
+     * In contrast to {@link #join(ObservableList, ObservableValue)} the string representation of each element is
+     * cached. A change of the list only converts the added or updated elements to strings and a change of the
+     * delimiter doesn't convert any element at all. The joined string is only built when the value of the binding
+     * is requested.
+     *
+     * As the string representations are cached, a change of an element that isn't reported by the list
+     * (like a mutable element whose `toString` result changes) isn't reflected by this binding.
+     * A delimiter of `null` is treated as an empty string.
+     *
+     * @param items     the observable list of items.
+     * @param delimiter the sequence of characters to be used between each element.
+     *
+     * @return a string binding.
+     */
+    public static StringBinding joinIncrementally(final ObservableList<?> items, final ObservableValue<String> delimiter) {
+        return new IncrementalJoinBinding(items, delimiter);
     }
 
     /**
@@ -147,7 +641,7 @@ public class CollectionBindings {
      * @return an object binding
      */
     public static <T> ObjectBinding<T> reducing(final ObservableList<T> items, final T defaultValue, final ObservableValue<BinaryOperator<T>> reducer) {
-        return Bindings.createObjectBinding(() -> items.stream().reduce(reducer.getValue()).orElse(defaultValue), items, reducer);
+        return BatchingBindings.createObjectBinding(() -> ParallelAggregation.reduce(items, reducer.getValue()).orElse(defaultValue), items, reducer);
     }
 
     /**
@@ -160,7 +654,46 @@ public class CollectionBindings {
      * @return an object binding
      */
     public static <T> ObjectBinding<T> reducing(final ObservableList<T> items, final ObservableValue<BinaryOperator<T>> reducer, final Supplier<T> supplier) {
-        return Bindings.createObjectBinding(() -> items.stream().reduce(reducer.getValue()).orElseGet(supplier), items, reducer);
+        return BatchingBindings.createObjectBinding(() -> ParallelAggregation.reduce(items, reducer.getValue()).orElseGet(supplier), items, reducer);
+    }
+
+    /**
+     * An asynchronous variant of {@link #reducing(ObservableList, Object, ObservableValue)} that reduces on the
+     * {@link BindingExecutors#getDefaultExecutor() default executor}.
+     * See {@link #reducingAsync(ObservableList, Object, ObservableValue, Executor)} for details.
+     *
+     * @param items        the observable list of elements.
+     * @param defaultValue the value to be returned if there is no value present, may be null.
+     * @param reducer      an associative, non-interfering, stateless function for combining two values.
+     *
+     * @return an async object binding
+     */
+    public static <T> AsyncBinding<T> reducingAsync(final ObservableList<T> items, final T defaultValue, final ObservableValue<BinaryOperator<T>> reducer) {
+        return reducingAsync(items, defaultValue, reducer, BindingExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * An asynchronous variant of {@link #reducing(ObservableList, Object, ObservableValue)} for large lists.
+     *
+     * When the list or the reducer changes the elements are copied and the copy is reduced on the given executor.
+     * The binding keeps its previous value until the result is available. A reduction of an outdated copy is
+     * cancelled when the list changes again. See {@link AsyncBinding} for details.
+     *
+     * @param items        the observable list of elements.
+     * @param defaultValue the value to be returned if there is no value present, may be null. It is also the value
+     *                     of the binding until the first reduction has finished.
+     * @param reducer      an associative, non-interfering, stateless function for combining two values.
+     * @param executor     the executor that does the reductions.
+     *
+     * @return an async object binding
+     */
+    public static <T> AsyncBinding<T> reducingAsync(final ObservableList<T> items, final T defaultValue, final ObservableValue<BinaryOperator<T>> reducer, final Executor executor) {
+        return new AsyncBinding<T>(defaultValue, () -> {
+            final List<T> snapshot = new ArrayList<>(items);
+            final BinaryOperator<T> operator = reducer.getValue();
+
+            return () -> ParallelAggregation.reduce(snapshot, operator).orElse(defaultValue);
+        }, executor, items, reducer);
     }
 
     /**
@@ -174,7 +707,7 @@ public class CollectionBindings {
      * @return an object binding
      */
     public static <T, R> ObjectBinding<R> reduceAndMap(final ObservableList<T> items, final T defaultValue, final ObservableValue<BinaryOperator<T>> reducer, final ObservableValue<Function<T, R>> mapper) {
-        return Bindings.createObjectBinding(() -> mapper.getValue().apply(items.stream().reduce(reducer.getValue()).orElse(defaultValue)), items, reducer, mapper);
+        return BatchingBindings.createObjectBinding(() -> mapper.getValue().apply(ParallelAggregation.reduce(items, reducer.getValue()).orElse(defaultValue)), items, reducer, mapper);
     }
 
     /**
@@ -188,7 +721,79 @@ public class CollectionBindings {
      * @return an object binding
      */
     public static <T, R> ObjectBinding<R> reduceAndMap(final ObservableList<T> items, final ObservableValue<BinaryOperator<T>> reducer, final ObservableValue<Function<T, R>> mapper, final Supplier<T> supplier) {
-        return Bindings.createObjectBinding(() -> mapper.getValue().apply(items.stream().reduce(reducer.getValue()).orElseGet(supplier)), items, reducer, mapper);
+        return BatchingBindings.createObjectBinding(() -> mapper.getValue().apply(ParallelAggregation.reduce(items, reducer.getValue()).orElseGet(supplier)), items, reducer, mapper);
+    }
+
+    /**
+     * Returns an object binding whose value is the reduction of all elements in the list.
+     *
+     * In contrast to {@link #reducing(ObservableList, Object, ObservableValue)} the list isn't reduced as a whole
+     * on every change. Instead the binding keeps a balanced tree of partial reductions over the list so that adding,
+     * removing or replacing an element only recombines O(log n) partial reductions. A change of the reducer
+     * recombines all partial reductions once when the value of the binding is requested the next time.
+     *
+     * The partial reductions are combined in a different grouping than a sequential reduction would use,
+     * so the reducer **must** be associative. The order of the elements is always maintained.
+     * The tree needs additional memory that is linear to the size of the list.
+     *
+     * @param items        the observable list of elements.
+     * @param defaultValue the value to be returned if there is no value present, may be null.
+     * @param reducer      an associative, non-interfering, stateless function for combining two values.
+     *
+     * @return an object binding
+     */
+    public static <T> ObjectBinding<T> reducingIncrementally(final ObservableList<T> items, final T defaultValue, final ObservableValue<BinaryOperator<T>> reducer) {
+        return reducingIncrementally(items, reducer, () -> defaultValue);
+    }
+
+    /**
+     * Returns an object binding whose value is the reduction of all elements in the list.
+     *
+     * See {@link #reducingIncrementally(ObservableList, Object, ObservableValue)} for details on how the value is
+     * computed.
+     *
+     * @param items    the observable list of elements.
+     * @param reducer  an associative, non-interfering, stateless function for combining two values.
+     * @param supplier a {@code Supplier} whose result is returned if no value is present.
+     *
+     * @return an object binding
+     */
+    public static <T> ObjectBinding<T> reducingIncrementally(final ObservableList<T> items, final ObservableValue<BinaryOperator<T>> reducer, final Supplier<T> supplier) {
+        return new IncrementalReducingBinding<T, T>(items, reducer, null, supplier);
+    }
+
+    /**
+     * Returns an object binding whose value is the mapped reduction of all elements in the list.
+     *
+     * See {@link #reducingIncrementally(ObservableList, Object, ObservableValue)} for details on how the reduction is
+     * computed.
+     *
+     * @param items        the observable list of elements.
+     * @param defaultValue the value to be returned if there is no value present, may be null.
+     * @param reducer      an associative, non-interfering, stateless function for combining two values.
+     * @param mapper       a non-interfering, stateless function to apply to the reduced value.
+     *
+     * @return an object binding
+     */
+    public static <T, R> ObjectBinding<R> reduceAndMapIncrementally(final ObservableList<T> items, final T defaultValue, final ObservableValue<BinaryOperator<T>> reducer, final ObservableValue<Function<T, R>> mapper) {
+        return reduceAndMapIncrementally(items, reducer, mapper, () -> defaultValue);
+    }
+
+    /**
+     * Returns an object binding whose value is the mapped reduction of all elements in the list.
+     *
+     * See {@link #reducingIncrementally(ObservableList, Object, ObservableValue)} for details on how the reduction is
+     * computed.
+     *
+     * @param items    the observable list of elements.
+     * @param reducer  an associative, non-interfering, stateless function for combining two values.
+     * @param mapper   a non-interfering, stateless function to apply to the reduced value.
+     * @param supplier a {@code Supplier} whose result is returned if no value is present.
+     *
+     * @return an object binding
+     */
+    public static <T, R> ObjectBinding<R> reduceAndMapIncrementally(final ObservableList<T> items, final ObservableValue<BinaryOperator<T>> reducer, final ObservableValue<Function<T, R>> mapper, final Supplier<T> supplier) {
+        return new IncrementalReducingBinding<>(items, reducer, mapper, supplier);
     }
 
     /**
@@ -200,34 +805,49 @@ public class CollectionBindings {
      * the second list and so on. So if an element is added to the first list, this element will be located
      * between the old elements of the first list and the second list's elements.
      *
+     * The concatenated list is an unmodifiable view of the source lists and doesn't copy their elements.
+     * A change of a source list is forwarded as the same change shifted by the position of the source list,
+     * i.e. adding a single element to a source list results in a single added element in the concatenated list.
      *
-     * **Hint:** *At the moment this observable list is implemented with {@link javafx.beans.InvalidationListener}s on
-     * the source lists and by clearing and recreating the concatenated list on every change. This should be kept in mind
-     * when using a {@link javafx.collections.ListChangeListener} on the concatenated list as it will react multiple times
-     * when a change is done to one of the source lists.
-     *
-     * This behaviour will likely be changed in the future as it means a performance limitation too.
+     * **Note:** Previous versions returned a modifiable copy of the source lists.
+     * Its modifications were discarded by the next change of any source list, so now modifying the
+     * concatenated list throws an {@link UnsupportedOperationException}. Modify the source lists instead, or copy
+     * the concatenated list with `FXCollections.observableArrayList(concatenated)` if you need a modifiable list.
      *
      * @param lists a var-args array of observable lists.
      * @param <T>   the generic type of the lists.
      *
      * @return a new observable list representing the concatenation of the source lists.
      */
+    // the array is only copied by the concatenated list
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <T> ObservableList<T> concat(ObservableList<T>... lists) {
-        ObservableList<T> result = FXCollections.observableArrayList();
+        return new ConcatenatedList<>(lists);
+    }
 
-        // todo: think about a smarter solution
-        for (ObservableList<T> list : lists) {
-            list.addListener((Observable observable) -> {
-                result.clear();
+    private static NumberBinding min(final NumberArrayAggregation<?, DoubleExtremes> aggregation, final Supplier<? extends Number> supplier) {
+        final DoubleExtremes extremes = aggregation.getAggregator();
+        return aggregation.createBinding(() -> {
+            if (extremes.isStale()) {
+                aggregation.rebuild();
+            }
+            return extremes.isEmpty() ? supplier.get().doubleValue() : extremes.min();
+        });
+    }
 
-                for (ObservableList<T> ts : lists) {
-                    result.addAll(ts);
-                }
-            });
-        }
+    private static NumberBinding max(final NumberArrayAggregation<?, DoubleExtremes> aggregation, final Supplier<? extends Number> supplier) {
+        final DoubleExtremes extremes = aggregation.getAggregator();
+        return aggregation.createBinding(() -> {
+            if (extremes.isStale()) {
+                aggregation.rebuild();
+            }
+            return extremes.isEmpty() ? supplier.get().doubleValue() : extremes.max();
+        });
+    }
 
-        return result;
+    private static NumberBinding average(final NumberArrayAggregation<?, CompensatedSum> aggregation, final Supplier<? extends Number> supplier) {
+        final CompensatedSum sum = aggregation.getAggregator();
+        return aggregation.createBinding(() -> sum.count() == 0 ? supplier.get().doubleValue() : sum.average());
     }
 }
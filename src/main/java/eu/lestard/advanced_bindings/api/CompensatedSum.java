@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+/**
+ * A running sum and count of double values.
+ *
+ * The sum is accumulated with Neumaier's variant of the Kahan summation, so the rounding errors of a long-lived
+ * total that sees many additions and removals don't add up.
+ *
+ * Infinite and `NaN` values are only counted and not added to the running sum. Otherwise removing such a value
+ * again would leave the sum at `NaN` forever. For the same reason a running sum that exceeds the range of double
+ * doesn't overflow to infinity: the multiples of 2<sup>1023</sup> that don't fit are counted on their own.
+ */
+final class CompensatedSum implements NumberAggregator {
+
+    private static final double CHUNK = Math.scalb(1.0, 1023);
+    private static final double HALF_CHUNK = Math.scalb(1.0, 1022);
+
+    private double sum;
+    private double compensation;
+    private int overflowChunks;
+    private int count;
+
+    private int nanCount;
+    private int positiveInfinityCount;
+    private int negativeInfinityCount;
+
+    @Override
+    public void add(double value) {
+        count++;
+        update(value, 1);
+    }
+
+    @Override
+    public void remove(double value) {
+        count--;
+
+        if (count == 0) {
+            clear();
+        } else {
+            update(value, -1);
+        }
+    }
+
+    @Override
+    public void clear() {
+        sum = 0;
+        compensation = 0;
+        overflowChunks = 0;
+        count = 0;
+        nanCount = 0;
+        positiveInfinityCount = 0;
+        negativeInfinityCount = 0;
+    }
+
+    /**
+     * Sums large arrays in parallel by summing ranges of the array on their own and merging the partial sums.
+     */
+    @Override
+    public void addAll(double[] values) {
+        merge(ParallelAggregation.aggregate(values, CompensatedSum::new, CompensatedSum::merge));
+    }
+
+    /**
+     * Adds all values of the other sum to this sum.
+     *
+     * @return this sum.
+     */
+    CompensatedSum merge(CompensatedSum other) {
+        count += other.count;
+        nanCount += other.nanCount;
+        positiveInfinityCount += other.positiveInfinityCount;
+        negativeInfinityCount += other.negativeInfinityCount;
+        overflowChunks += other.overflowChunks;
+
+        accumulate(other.sum);
+        accumulate(other.compensation);
+        return this;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /**
+     * @return the sum of all values, `0` if there are no values.
+     */
+    double sum() {
+        if (nanCount > 0 || (positiveInfinityCount > 0 && negativeInfinityCount > 0)) {
+            return Double.NaN;
+        }
+        if (positiveInfinityCount > 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (negativeInfinityCount > 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        if (overflowChunks == 0) {
+            return sum + compensation;
+        }
+
+        // halved, so that the chunks only overflow if the total does
+        return Math.scalb((sum + compensation) / 2 + overflowChunks * HALF_CHUNK, 1);
+    }
+
+    /**
+     * @return the arithmetic mean of all values, `NaN` if there are no values.
+     */
+    double average() {
+        return count == 0 ? Double.NaN : sum() / count;
+    }
+
+    private void update(double value, int direction) {
+        if (Double.isNaN(value)) {
+            nanCount += direction;
+        } else if (value == Double.POSITIVE_INFINITY) {
+            positiveInfinityCount += direction;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            negativeInfinityCount += direction;
+        } else {
+            accumulate(direction * value);
+        }
+    }
+
+    private void accumulate(double summand) {
+        double total = sum + summand;
+
+        // both are finite, so they have the same sign and at least one of them is at least one chunk large
+        while (Double.isInfinite(total)) {
+            final int sign = total > 0 ? 1 : -1;
+            if (Math.abs(sum) >= CHUNK) {
+                sum -= sign * CHUNK;
+            } else {
+                summand -= sign * CHUNK;
+            }
+            overflowChunks += sign;
+            total = sum + summand;
+        }
+
+        if (Math.abs(sum) >= Math.abs(summand)) {
+            compensation += (sum - total) + summand;
+        } else {
+            compensation += (summand - total) + sum;
+        }
+
+        sum = total;
+    }
+}
@@ -0,0 +1,565 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.value.ObservableNumberValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A formula that has been parsed and compiled into a flat register program, see
+ * {@link MathBindings#compile(String, Map)}.
+ *
+ * The formula is parsed into a tree whose constant subtrees are evaluated right away. The remaining tree is
+ * flattened into a list of instructions that each apply one operation to one or two registers and store the result
+ * in a new register. The first registers hold the values of the variables, followed by the constants. Evaluating
+ * the formula is a single loop over the instructions that doesn't allocate anything.
+ *
+ * Compiled formulas are immutable and cached by their text, so binding the same formula again
+ * neither parses nor compiles it.
+ */
+final class CompiledFormula {
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final Map<String, CompiledFormula> CACHE = new LinkedHashMap<String, CompiledFormula>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledFormula> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private static final int CONSTANT = 0;
+    private static final int VARIABLE = 1;
+
+    private static final int ADD = 2;
+    private static final int SUBTRACT = 3;
+    private static final int MULTIPLY = 4;
+    private static final int DIVIDE = 5;
+    private static final int REMAINDER = 6;
+    private static final int NEGATE = 7;
+
+    private static final int ABS = 10;
+    private static final int SQRT = 11;
+    private static final int CBRT = 12;
+    private static final int EXP = 13;
+    private static final int EXPM1 = 14;
+    private static final int LOG = 15;
+    private static final int LOG10 = 16;
+    private static final int LOG1P = 17;
+    private static final int SIN = 18;
+    private static final int COS = 19;
+    private static final int TAN = 20;
+    private static final int ASIN = 21;
+    private static final int ACOS = 22;
+    private static final int ATAN = 23;
+    private static final int SINH = 24;
+    private static final int COSH = 25;
+    private static final int TANH = 26;
+    private static final int FLOOR = 27;
+    private static final int CEIL = 28;
+    private static final int RINT = 29;
+    private static final int SIGNUM = 30;
+    private static final int TO_RADIANS = 31;
+    private static final int TO_DEGREES = 32;
+
+    private static final int POW = 40;
+    private static final int ATAN2 = 41;
+    private static final int HYPOT = 42;
+    private static final int MIN = 43;
+    private static final int MAX = 44;
+
+    private static final Map<String, Integer> UNARY_FUNCTIONS = new HashMap<>();
+    private static final Map<String, Integer> BINARY_FUNCTIONS = new HashMap<>();
+    private static final Map<String, Double> CONSTANTS = new HashMap<>();
+
+    static {
+        UNARY_FUNCTIONS.put("abs", ABS);
+        UNARY_FUNCTIONS.put("sqrt", SQRT);
+        UNARY_FUNCTIONS.put("cbrt", CBRT);
+        UNARY_FUNCTIONS.put("exp", EXP);
+        UNARY_FUNCTIONS.put("expm1", EXPM1);
+        UNARY_FUNCTIONS.put("log", LOG);
+        UNARY_FUNCTIONS.put("log10", LOG10);
+        UNARY_FUNCTIONS.put("log1p", LOG1P);
+        UNARY_FUNCTIONS.put("sin", SIN);
+        UNARY_FUNCTIONS.put("cos", COS);
+        UNARY_FUNCTIONS.put("tan", TAN);
+        UNARY_FUNCTIONS.put("asin", ASIN);
+        UNARY_FUNCTIONS.put("acos", ACOS);
+        UNARY_FUNCTIONS.put("atan", ATAN);
+        UNARY_FUNCTIONS.put("sinh", SINH);
+        UNARY_FUNCTIONS.put("cosh", COSH);
+        UNARY_FUNCTIONS.put("tanh", TANH);
+        UNARY_FUNCTIONS.put("floor", FLOOR);
+        UNARY_FUNCTIONS.put("ceil", CEIL);
+        UNARY_FUNCTIONS.put("rint", RINT);
+        UNARY_FUNCTIONS.put("signum", SIGNUM);
+        UNARY_FUNCTIONS.put("toRadians", TO_RADIANS);
+        UNARY_FUNCTIONS.put("toDegrees", TO_DEGREES);
+
+        BINARY_FUNCTIONS.put("pow", POW);
+        BINARY_FUNCTIONS.put("atan2", ATAN2);
+        BINARY_FUNCTIONS.put("hypot", HYPOT);
+        BINARY_FUNCTIONS.put("min", MIN);
+        BINARY_FUNCTIONS.put("max", MAX);
+
+        CONSTANTS.put("PI", Math.PI);
+        CONSTANTS.put("E", Math.E);
+    }
+
+    private final String formula;
+    private final String[] variables;
+    private final double[] initialRegisters;
+
+    private final int[] operations;
+    private final int[] targets;
+    private final int[] firstOperands;
+    private final int[] secondOperands;
+    private final int result;
+
+    /**
+     * @param formula the formula.
+     * @return the compiled formula.
+     * @throws IllegalArgumentException if the formula is not valid.
+     */
+    static CompiledFormula compile(String formula) {
+        synchronized (CACHE) {
+            CompiledFormula compiled = CACHE.get(formula);
+            if (compiled == null) {
+                compiled = new CompiledFormula(formula);
+                CACHE.put(formula, compiled);
+            }
+            return compiled;
+        }
+    }
+
+    private CompiledFormula(String formula) {
+        this.formula = formula;
+
+        final Parser parser = new Parser(formula);
+        final Node root = parser.parse();
+
+        variables = parser.variables.toArray(new String[parser.variables.size()]);
+
+        final Emitter emitter = new Emitter(variables.length);
+        result = emitter.emit(root);
+
+        initialRegisters = new double[emitter.registers];
+        for (int i = 0; i < emitter.constants.size(); i++) {
+            initialRegisters[variables.length + i] = emitter.constants.get(i);
+        }
+
+        final int size = emitter.operations.size();
+        operations = new int[size];
+        targets = new int[size];
+        firstOperands = new int[size];
+        secondOperands = new int[size];
+        for (int i = 0; i < size; i++) {
+            operations[i] = emitter.operations.get(i);
+            targets[i] = variables.length + emitter.constants.size() + i;
+            firstOperands[i] = emitter.firstOperands.get(i);
+            secondOperands[i] = emitter.secondOperands.get(i);
+        }
+    }
+
+    /**
+     * Creates a binding that evaluates the formula.
+     *
+     * @param values the observable values of the variables of the formula.
+     * @return the binding.
+     * @throws IllegalArgumentException if there is no value for a variable of the formula.
+     */
+    DoubleBinding createBinding(Map<String, ? extends ObservableNumberValue> values) {
+        final ObservableNumberValue[] inputs = new ObservableNumberValue[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            inputs[i] = values.get(variables[i]);
+            if (inputs[i] == null) {
+                throw new IllegalArgumentException("There is no value for the variable '" + variables[i] + "' of the formula '" + formula + "'");
+            }
+        }
+        return new FormulaBinding(this, inputs);
+    }
+
+    /**
+     * Runs the program. The values of the variables have to be stored in the first registers.
+     */
+    private double evaluate(double[] registers) {
+        for (int i = 0; i < operations.length; i++) {
+            registers[targets[i]] = apply(operations[i], registers[firstOperands[i]], registers[secondOperands[i]]);
+        }
+        return registers[result];
+    }
+
+    private static double apply(int operation, double a, double b) {
+        switch (operation) {
+            case ADD: return a + b;
+            case SUBTRACT: return a - b;
+            case MULTIPLY: return a * b;
+            case DIVIDE: return a / b;
+            case REMAINDER: return a % b;
+            case NEGATE: return -a;
+            case ABS: return Math.abs(a);
+            case SQRT: return Math.sqrt(a);
+            case CBRT: return Math.cbrt(a);
+            case EXP: return Math.exp(a);
+            case EXPM1: return Math.expm1(a);
+            case LOG: return Math.log(a);
+            case LOG10: return Math.log10(a);
+            case LOG1P: return Math.log1p(a);
+            case SIN: return Math.sin(a);
+            case COS: return Math.cos(a);
+            case TAN: return Math.tan(a);
+            case ASIN: return Math.asin(a);
+            case ACOS: return Math.acos(a);
+            case ATAN: return Math.atan(a);
+            case SINH: return Math.sinh(a);
+            case COSH: return Math.cosh(a);
+            case TANH: return Math.tanh(a);
+            case FLOOR: return Math.floor(a);
+            case CEIL: return Math.ceil(a);
+            case RINT: return Math.rint(a);
+            case SIGNUM: return Math.signum(a);
+            case TO_RADIANS: return Math.toRadians(a);
+            case TO_DEGREES: return Math.toDegrees(a);
+            case POW: return Math.pow(a, b);
+            case ATAN2: return Math.atan2(a, b);
+            case HYPOT: return Math.hypot(a, b);
+            case MIN: return Math.min(a, b);
+            case MAX: return Math.max(a, b);
+            default: throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private static final class Node {
+        private final int operation;
+        private final double value;
+        private final int variable;
+        private final Node first;
+        private final Node second;
+
+        private Node(int operation, double value, int variable, Node first, Node second) {
+            this.operation = operation;
+            this.value = value;
+            this.variable = variable;
+            this.first = first;
+            this.second = second;
+        }
+
+        static Node constant(double value) {
+            return new Node(CONSTANT, value, -1, null, null);
+        }
+
+        static Node variable(int index) {
+            return new Node(VARIABLE, 0, index, null, null);
+        }
+
+        /**
+         * Creates a node of the operation. If all operands are constant the operation is evaluated right away.
+         */
+        static Node operation(int operation, Node first, Node second) {
+            if (first.operation == CONSTANT && (second == null || second.operation == CONSTANT)) {
+                return constant(apply(operation, first.value, second == null ? 0 : second.value));
+            }
+            return new Node(operation, 0, -1, first, second);
+        }
+    }
+
+    /**
+     * A recursive descent parser with the usual precedence of the operators. `^` is right associative
+     * and binds stronger than the unary minus, so `-2^2` is `-4`.
+     */
+    private static final class Parser {
+        private final String text;
+        private int position;
+
+        private final List<String> variables = new ArrayList<>();
+
+        private Parser(String text) {
+            this.text = text;
+        }
+
+        Node parse() {
+            final Node node = parseSum();
+            skipWhitespace();
+            if (position < text.length()) {
+                throw error("Unexpected '" + text.charAt(position) + "'");
+            }
+            return node;
+        }
+
+        private Node parseSum() {
+            Node node = parseProduct();
+            while (true) {
+                if (accept('+')) {
+                    node = Node.operation(ADD, node, parseProduct());
+                } else if (accept('-')) {
+                    node = Node.operation(SUBTRACT, node, parseProduct());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseProduct() {
+            Node node = parseUnary();
+            while (true) {
+                if (accept('*')) {
+                    node = Node.operation(MULTIPLY, node, parseUnary());
+                } else if (accept('/')) {
+                    node = Node.operation(DIVIDE, node, parseUnary());
+                } else if (accept('%')) {
+                    node = Node.operation(REMAINDER, node, parseUnary());
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseUnary() {
+            if (accept('-')) {
+                return Node.operation(NEGATE, parseUnary(), null);
+            }
+            if (accept('+')) {
+                return parseUnary();
+            }
+            return parsePower();
+        }
+
+        private Node parsePower() {
+            final Node base = parsePrimary();
+            if (accept('^')) {
+                return Node.operation(POW, base, parseUnary());
+            }
+            return base;
+        }
+
+        private Node parsePrimary() {
+            skipWhitespace();
+
+            if (accept('(')) {
+                final Node node = parseSum();
+                expect(')');
+                return node;
+            }
+
+            if (position < text.length()) {
+                final char c = text.charAt(position);
+                if (Character.isDigit(c) || c == '.') {
+                    return Node.constant(parseNumber());
+                }
+                if (Character.isJavaIdentifierStart(c)) {
+                    return parseIdentifier();
+                }
+                throw error("Unexpected '" + c + "'");
+            }
+
+            throw error("Unexpected end of formula");
+        }
+
+        private Node parseIdentifier() {
+            final int start = position;
+            while (position < text.length() && Character.isJavaIdentifierPart(text.charAt(position))) {
+                position++;
+            }
+            final String name = text.substring(start, position);
+
+            if (accept('(')) {
+                final Node first = parseSum();
+
+                if (UNARY_FUNCTIONS.containsKey(name)) {
+                    expect(')');
+                    return Node.operation(UNARY_FUNCTIONS.get(name), first, null);
+                }
+                if (BINARY_FUNCTIONS.containsKey(name)) {
+                    expect(',');
+                    final Node second = parseSum();
+                    expect(')');
+                    return Node.operation(BINARY_FUNCTIONS.get(name), first, second);
+                }
+                throw error("Unknown function '" + name + "'", start);
+            }
+
+            if (CONSTANTS.containsKey(name)) {
+                return Node.constant(CONSTANTS.get(name));
+            }
+
+            int index = variables.indexOf(name);
+            if (index < 0) {
+                index = variables.size();
+                variables.add(name);
+            }
+            return Node.variable(index);
+        }
+
+        private double parseNumber() {
+            final int start = position;
+            while (position < text.length() && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+                position++;
+            }
+            if (position < text.length() && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+                position++;
+                if (position < text.length() && (text.charAt(position) == '+' || text.charAt(position) == '-')) {
+                    position++;
+                }
+                while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                    position++;
+                }
+            }
+
+            try {
+                return Double.parseDouble(text.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw error("Invalid number '" + text.substring(start, position) + "'", start);
+            }
+        }
+
+        private boolean accept(char c) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!accept(c)) {
+                throw error("Expected '" + c + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return error(message, position);
+        }
+
+        private IllegalArgumentException error(String message, int at) {
+            return new IllegalArgumentException(message + " at position " + at + " of the formula '" + text + "'");
+        }
+    }
+
+    /**
+     * Flattens the tree into instructions. The registers of the constants are assigned while emitting,
+     * the registers of the instructions are placed after all constants afterwards.
+     */
+    private static final class Emitter {
+        private final int variableCount;
+
+        private final List<Double> constants = new ArrayList<>();
+        private final List<Integer> operations = new ArrayList<>();
+        private final List<Integer> firstOperands = new ArrayList<>();
+        private final List<Integer> secondOperands = new ArrayList<>();
+
+        private int registers;
+
+        private Emitter(int variableCount) {
+            this.variableCount = variableCount;
+        }
+
+        /**
+         * @return the register of the result of the given node.
+         */
+        int emit(Node root) {
+            final int result = emitNode(root);
+
+            // the instructions can only be placed once the number of constants is known
+            final int instructionsStart = variableCount + constants.size();
+            for (int i = 0; i < operations.size(); i++) {
+                firstOperands.set(i, resolve(firstOperands.get(i), instructionsStart));
+                secondOperands.set(i, resolve(secondOperands.get(i), instructionsStart));
+            }
+            registers = instructionsStart + operations.size();
+            return resolve(result, instructionsStart);
+        }
+
+        /**
+         * @return the register of a variable or constant, or the negated (minus one) index of an instruction.
+         */
+        private int emitNode(Node node) {
+            switch (node.operation) {
+                case VARIABLE:
+                    return node.variable;
+                case CONSTANT:
+                    constants.add(node.value);
+                    return variableCount + constants.size() - 1;
+                default:
+                    final int first = emitNode(node.first);
+                    final int second = node.second == null ? first : emitNode(node.second);
+
+                    operations.add(node.operation);
+                    firstOperands.add(first);
+                    secondOperands.add(second);
+                    return -operations.size();
+            }
+        }
+
+        private static int resolve(int register, int instructionsStart) {
+            return register >= 0 ? register : instructionsStart - register - 1;
+        }
+    }
+
+    private static final class FormulaBinding extends DoubleBinding {
+        private final CompiledFormula formula;
+        private final ObservableNumberValue[] inputs;
+        private final double[] registers;
+        private final BatchingObserver observer;
+
+        private FormulaBinding(CompiledFormula formula, ObservableNumberValue[] inputs) {
+            this.formula = formula;
+            this.inputs = inputs;
+            this.registers = formula.initialRegisters.clone();
+
+            observer = new BatchingObserver(this, inputs);
+        }
+
+        @Override
+        protected double computeValue() {
+            for (int i = 0; i < inputs.length; i++) {
+                registers[i] = inputs[i].doubleValue();
+            }
+            return formula.evaluate(registers);
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(inputs));
+        }
+
+        @Override
+        public void dispose() {
+            observer.dispose();
+        }
+    }
+}
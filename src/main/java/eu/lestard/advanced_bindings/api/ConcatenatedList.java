@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.WeakListChangeListener;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An unmodifiable observable list that is a view of the concatenation of several source lists.
+ *
+ * The elements aren't copied. Instead the list keeps the offset of each source list and translates
+ * every change of a source list into a change of this list that is shifted by the offset of the source list.
+ *
+ * @param <E> the type of the elements.
+ */
+final class ConcatenatedList<E> extends ObservableListBase<E> {
+
+    private final ObservableList<? extends E>[] lists;
+
+    /**
+     * The index of the first element of each source list. The last entry is the size of this list.
+     */
+    private final int[] offsets;
+
+    private final List<SourceListener> listeners = new ArrayList<>();
+
+    ConcatenatedList(ObservableList<? extends E>[] lists) {
+        this.lists = lists.clone();
+        this.offsets = new int[lists.length + 1];
+        updateOffsets();
+
+        // A list that is contained multiple times gets a single listener that takes care of all its segments.
+        final Map<ObservableList<? extends E>, List<Integer>> segments = new IdentityHashMap<>();
+        for (int i = 0; i < this.lists.length; i++) {
+            segments.computeIfAbsent(this.lists[i], list -> new ArrayList<>()).add(i);
+        }
+
+        segments.forEach((list, indices) -> {
+            final SourceListener listener = new SourceListener(indices.stream().mapToInt(Integer::intValue).toArray());
+            listeners.add(listener);
+            list.addListener(new WeakListChangeListener<>(listener));
+        });
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        final int segment = segmentOf(index);
+        return lists[segment].get(index - offsets[segment]);
+    }
+
+    @Override
+    public int size() {
+        return offsets[lists.length];
+    }
+
+    /**
+     * Finds the last source list whose offset is not greater than the given index.
+     * As empty source lists have the same offset as their successor this is the source list containing the index.
+     */
+    private int segmentOf(int index) {
+        int low = 0;
+        int high = lists.length - 1;
+
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+
+            if (offsets[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private void updateOffsets() {
+        for (int i = 0; i < lists.length; i++) {
+            offsets[i + 1] = offsets[i] + lists[i].size();
+        }
+    }
+
+    private final class SourceListener implements ListChangeListener<E> {
+
+        private final int[] segments;
+
+        private SourceListener(int[] segments) {
+            this.segments = segments;
+        }
+
+        @Override
+        public void onChanged(Change<? extends E> change) {
+            beginChange();
+
+            // The segments are processed back to front so that the offsets of the segments that are processed
+            // later are not affected by the changes that were already reported.
+            for (int i = segments.length - 1; i >= 0; i--) {
+                change.reset();
+                forward(change, offsets[segments[i]]);
+            }
+
+            updateOffsets();
+            endChange();
+        }
+
+        private void forward(Change<? extends E> change, int offset) {
+            while (change.next()) {
+                final int from = change.getFrom();
+                final int to = change.getTo();
+
+                if (change.wasPermutated()) {
+                    final int[] permutation = new int[to - from];
+                    for (int i = from; i < to; i++) {
+                        permutation[i - from] = change.getPermutation(i) + offset;
+                    }
+                    nextPermutation(from + offset, to + offset, permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        nextUpdate(i + offset);
+                    }
+                } else if (change.wasReplaced()) {
+                    nextReplace(from + offset, to + offset, change.getRemoved());
+                } else if (change.wasRemoved()) {
+                    nextRemove(from + offset, change.getRemoved());
+                } else if (change.wasAdded()) {
+                    nextAdd(from + offset, to + offset);
+                }
+            }
+        }
+    }
+}
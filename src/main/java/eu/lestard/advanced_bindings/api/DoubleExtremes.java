@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+/**
+ * Tracks the minimum and maximum of a bag of values without storing the values themselves.
+ *
+ * Added values can always be taken into account directly. When the current minimum or maximum is removed
+ * the extremes become stale and the owner has to rebuild them from all values, see {@link #isStale()}.
+ * This is cheap when the values are available in a primitive array anyway and the extremes are rarely removed.
+ *
+ * Like {@link Math#min(double, double)} and {@link Math#max(double, double)} the extremes are `NaN`
+ * as long as there is at least one `NaN` value.
+ */
+final class DoubleExtremes implements NumberAggregator {
+
+    private double min;
+    private double max;
+
+    private int count;
+    private int nanCount;
+    private boolean stale;
+
+    @Override
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            nanCount++;
+            return;
+        }
+
+        count++;
+
+        if (count == 1) {
+            min = value;
+            max = value;
+        } else if (!stale) {
+            if (Double.compare(value, min) < 0) {
+                min = value;
+            }
+            if (Double.compare(value, max) > 0) {
+                max = value;
+            }
+        }
+    }
+
+    @Override
+    public void remove(double value) {
+        if (Double.isNaN(value)) {
+            nanCount--;
+            return;
+        }
+
+        count--;
+
+        if (count == 0) {
+            stale = false;
+        } else if (Double.compare(value, min) == 0 || Double.compare(value, max) == 0) {
+            stale = true;
+        }
+    }
+
+    @Override
+    public void clear() {
+        count = 0;
+        nanCount = 0;
+        stale = false;
+    }
+
+    /**
+     * Finds the extremes of large arrays in parallel by looking at ranges of the array on their own
+     * and merging the partial extremes.
+     */
+    @Override
+    public void addAll(double[] values) {
+        merge(ParallelAggregation.aggregate(values, DoubleExtremes::new, DoubleExtremes::merge));
+    }
+
+    /**
+     * Adds the values of the other extremes to these extremes. The other extremes must not be stale.
+     *
+     * @return these extremes.
+     */
+    DoubleExtremes merge(DoubleExtremes other) {
+        nanCount += other.nanCount;
+
+        if (other.count > 0) {
+            if (count == 0) {
+                min = other.min;
+                max = other.max;
+            } else if (!stale) {
+                if (Double.compare(other.min, min) < 0) {
+                    min = other.min;
+                }
+                if (Double.compare(other.max, max) > 0) {
+                    max = other.max;
+                }
+            }
+            count += other.count;
+        }
+        return this;
+    }
+
+    /**
+     * @return `true` if a minimum or maximum was removed and the extremes have to be rebuilt
+     * by clearing them and adding all values again.
+     */
+    boolean isStale() {
+        return stale;
+    }
+
+    boolean isEmpty() {
+        return count == 0 && nanCount == 0;
+    }
+
+    double min() {
+        return nanCount > 0 || count == 0 ? Double.NaN : min;
+    }
+
+    double max() {
+        return nanCount > 0 || count == 0 ? Double.NaN : max;
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import java.util.Arrays;
+
+/**
+ * An ordered multiset of double values.
+ *
+ * The distinct values are kept in a treap (a randomized balanced binary search tree) together with the number
+ * of occurrences of each value, so adding and removing a value costs O(log n) and the smallest and largest
+ * value can be looked up in O(log n). Each node also knows the number of values in its subtree, so the value
+ * at a given rank (e.g. the median) can be looked up in O(log n) as well.
+ * The nodes are stored in primitive arrays to avoid boxing the values.
+ *
+ * `NaN` values are not stored in the tree but only counted. Like {@link Math#min(double, double)} and
+ * {@link Math#max(double, double)} the minimum and maximum are `NaN` as long as there is at least one `NaN` value.
+ */
+final class DoubleMultiset implements NumberAggregator {
+
+    private static final int NIL = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] keys = new double[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int[] totals = new int[INITIAL_CAPACITY];
+    private int[] priorities = new int[INITIAL_CAPACITY];
+    private int[] left = new int[INITIAL_CAPACITY];
+    private int[] right = new int[INITIAL_CAPACITY];
+
+    private int root = NIL;
+    private int usedNodes;
+    private int freeNodes = NIL;
+
+    private int size;
+    private int nanCount;
+
+    private int seed = 0x2545F491;
+
+    @Override
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            nanCount++;
+        } else {
+            root = insert(root, value);
+            size++;
+        }
+    }
+
+    @Override
+    public void remove(double value) {
+        if (Double.isNaN(value)) {
+            if (nanCount > 0) {
+                nanCount--;
+            }
+        } else {
+            root = delete(root, value);
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = NIL;
+        usedNodes = 0;
+        freeNodes = NIL;
+        size = 0;
+        nanCount = 0;
+    }
+
+    /**
+     * Adding many values to an empty multiset sorts a copy of the values (in parallel for large arrays)
+     * and builds the treap from the sorted distinct values in linear time instead of inserting them one by one.
+     */
+    @Override
+    public void addAll(double[] values) {
+        if (root != NIL) {
+            for (double value : values) {
+                add(value);
+            }
+            return;
+        }
+
+        final double[] sorted = values.clone();
+        ParallelAggregation.sort(sorted);
+
+        // NaN values are sorted to the end
+        int end = sorted.length;
+        while (end > 0 && Double.isNaN(sorted[end - 1])) {
+            end--;
+        }
+        nanCount += sorted.length - end;
+
+        final int[] stack = new int[end];
+        int top = -1;
+
+        int i = 0;
+        while (i < end) {
+            final double key = sorted[i];
+            int j = i + 1;
+            while (j < end && Double.compare(sorted[j], key) == 0) {
+                j++;
+            }
+
+            final int node = newNode(key);
+            counts[node] = j - i;
+
+            // the rightmost path of the treap is kept on the stack, nodes with a lower priority
+            // than the new node become its left subtree
+            int last = NIL;
+            while (top >= 0 && priorities[stack[top]] < priorities[node]) {
+                last = stack[top--];
+            }
+            left[node] = last;
+            if (top >= 0) {
+                right[stack[top]] = node;
+            }
+            stack[++top] = node;
+
+            i = j;
+        }
+
+        root = top >= 0 ? stack[0] : NIL;
+        updateAll(root);
+        size += end;
+    }
+
+    /**
+     * @return the number of values in this multiset including duplicates and `NaN` values.
+     */
+    int size() {
+        return size + nanCount;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the smallest value, `NaN` if a `NaN` value is present or the multiset is empty.
+     */
+    double min() {
+        if (nanCount > 0 || root == NIL) {
+            return Double.NaN;
+        }
+
+        int node = root;
+        while (left[node] != NIL) {
+            node = left[node];
+        }
+        return keys[node];
+    }
+
+    /**
+     * @return the largest value, `NaN` if a `NaN` value is present or the multiset is empty.
+     */
+    double max() {
+        if (nanCount > 0 || root == NIL) {
+            return Double.NaN;
+        }
+
+        int node = root;
+        while (right[node] != NIL) {
+            node = right[node];
+        }
+        return keys[node];
+    }
+
+    /**
+     * @param rank the zero-based rank of the value in the sorted values, not taking `NaN` values into account.
+     * @return the value at the given rank.
+     */
+    double select(int rank) {
+        int remaining = rank;
+        int node = root;
+
+        while (node != NIL) {
+            final int leftTotal = total(left[node]);
+
+            if (remaining < leftTotal) {
+                node = left[node];
+            } else if (remaining < leftTotal + counts[node]) {
+                return keys[node];
+            } else {
+                remaining -= leftTotal + counts[node];
+                node = right[node];
+            }
+        }
+
+        throw new IndexOutOfBoundsException("rank " + rank + " is not in the range [0, " + size + ")");
+    }
+
+    /**
+     * Computes the percentile of the values by linear interpolation between the closest ranks.
+     *
+     * @param p the percentile between `0` and `100`.
+     * @return the percentile, `NaN` if `p` is out of range, a `NaN` value is present or the multiset is empty.
+     */
+    double percentile(double p) {
+        if (nanCount > 0 || root == NIL || !(p >= 0 && p <= 100)) {
+            return Double.NaN;
+        }
+
+        final double rank = p / 100 * (size - 1);
+        final int lower = (int) Math.floor(rank);
+        final int upper = (int) Math.ceil(rank);
+
+        final double lowerValue = select(lower);
+        if (lower == upper) {
+            return lowerValue;
+        }
+        return lowerValue + (select(upper) - lowerValue) * (rank - lower);
+    }
+
+    private int insert(int node, double key) {
+        if (node == NIL) {
+            return newNode(key);
+        }
+
+        final int comparison = Double.compare(key, keys[node]);
+
+        if (comparison == 0) {
+            counts[node]++;
+            totals[node]++;
+        } else if (comparison < 0) {
+            // the arrays may grow while inserting so they have to be dereferenced afterwards
+            final int child = insert(left[node], key);
+            left[node] = child;
+
+            if (priorities[left[node]] > priorities[node]) {
+                node = rotateRight(node);
+            } else {
+                update(node);
+            }
+        } else {
+            final int child = insert(right[node], key);
+            right[node] = child;
+
+            if (priorities[right[node]] > priorities[node]) {
+                node = rotateLeft(node);
+            } else {
+                update(node);
+            }
+        }
+
+        return node;
+    }
+
+    private int delete(int node, double key) {
+        if (node == NIL) {
+            // the value isn't contained
+            return NIL;
+        }
+
+        final int comparison = Double.compare(key, keys[node]);
+
+        if (comparison < 0) {
+            left[node] = delete(left[node], key);
+        } else if (comparison > 0) {
+            right[node] = delete(right[node], key);
+        } else {
+            size--;
+
+            if (counts[node] > 1) {
+                counts[node]--;
+            } else {
+                final int merged = merge(left[node], right[node]);
+                freeNode(node);
+                return merged;
+            }
+        }
+
+        update(node);
+        return node;
+    }
+
+    /**
+     * Merges two treaps where all keys of the first one are smaller than the keys of the second one.
+     */
+    private int merge(int a, int b) {
+        if (a == NIL) {
+            return b;
+        }
+        if (b == NIL) {
+            return a;
+        }
+
+        if (priorities[a] > priorities[b]) {
+            right[a] = merge(right[a], b);
+            update(a);
+            return a;
+        } else {
+            left[b] = merge(a, left[b]);
+            update(b);
+            return b;
+        }
+    }
+
+    private int rotateRight(int node) {
+        final int newRoot = left[node];
+        left[node] = right[newRoot];
+        right[newRoot] = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private int rotateLeft(int node) {
+        final int newRoot = right[node];
+        right[node] = left[newRoot];
+        left[newRoot] = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private int newNode(double key) {
+        final int node;
+
+        if (freeNodes != NIL) {
+            node = freeNodes;
+            freeNodes = left[node];
+        } else {
+            if (usedNodes == keys.length) {
+                grow();
+            }
+            node = usedNodes++;
+        }
+
+        keys[node] = key;
+        counts[node] = 1;
+        totals[node] = 1;
+        priorities[node] = nextPriority();
+        left[node] = NIL;
+        right[node] = NIL;
+        return node;
+    }
+
+    private void update(int node) {
+        totals[node] = total(left[node]) + counts[node] + total(right[node]);
+    }
+
+    private void updateAll(int node) {
+        if (node != NIL) {
+            updateAll(left[node]);
+            updateAll(right[node]);
+            update(node);
+        }
+    }
+
+    private int total(int node) {
+        return node == NIL ? 0 : totals[node];
+    }
+
+    private void freeNode(int node) {
+        left[node] = freeNodes;
+        freeNodes = node;
+    }
+
+    private void grow() {
+        final int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        totals = Arrays.copyOf(totals, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+    }
+
+    private int nextPriority() {
+        // xorshift
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The scheduler returned by {@link BindingScheduler#fx()}.
+ *
+ * Delayed tasks get their own {@link PauseTransition}. The tasks for the next pulse are collected and executed
+ * by a single {@link AnimationTimer} that only runs while tasks are waiting.
+ */
+final class FxBindingScheduler implements BindingScheduler {
+
+    static final FxBindingScheduler INSTANCE = new FxBindingScheduler();
+
+    private List<PulseTask> pulseTasks = new ArrayList<>();
+
+    private AnimationTimer timer;
+
+    private FxBindingScheduler() {
+    }
+
+    @Override
+    public ScheduledTask schedule(Duration delay, Runnable task) {
+        final PauseTransition pause = new PauseTransition(delay);
+        pause.setOnFinished(event -> task.run());
+        pause.play();
+        return pause::stop;
+    }
+
+    @Override
+    public ScheduledTask scheduleOnNextPulse(Runnable task) {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    runPulseTasks();
+                }
+            };
+        }
+
+        if (pulseTasks.isEmpty()) {
+            timer.start();
+        }
+        final PulseTask pulseTask = new PulseTask(task);
+        pulseTasks.add(pulseTask);
+
+        return pulseTask;
+    }
+
+    private void runPulseTasks() {
+        // tasks that are scheduled while the tasks are executed belong to the following pulse
+        final List<PulseTask> tasks = pulseTasks;
+        pulseTasks = new ArrayList<>();
+
+        try {
+            for (PulseTask task : tasks) {
+                task.run();
+            }
+        } finally {
+            if (pulseTasks.isEmpty()) {
+                timer.stop();
+            }
+        }
+    }
+
+    /**
+     * A task for the next pulse. Cancelling only marks the task, so that it is skipped even if it is cancelled
+     * by another task of the same pulse.
+     */
+    private static final class PulseTask implements ScheduledTask {
+
+        private final Runnable task;
+
+        private boolean cancelled;
+
+        PulseTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Exceptions are passed to the uncaught exception handler of the thread, like JavaFX does for listeners,
+         * so they don't prevent the other tasks of the pulse.
+         */
+        private void run() {
+            if (cancelled) {
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.StringBinding;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A string binding that joins the string representations of the elements of an observable list.
+ *
+ * The string representation of each element is cached in a segment list that is kept in sync with the
+ * observable list. A list change only converts the added or updated elements, permutations reorder the
+ * cached segments and a change of the delimiter doesn't convert any element again.
+ * The joined string itself is only built when the value of the binding is requested.
+ */
+final class IncrementalJoinBinding extends StringBinding {
+
+    private final ObservableList<?> items;
+    private final ObservableValue<String> delimiter;
+
+    private final List<String> segments = new ArrayList<>();
+    private long segmentsLength;
+
+    private final ListChangeListener<Object> itemsListener = this::onItemsChanged;
+    private final WeakListChangeListener<Object> weakItemsListener = new WeakListChangeListener<>(itemsListener);
+
+    private final BatchingObserver delimiterObserver;
+
+    IncrementalJoinBinding(ObservableList<?> items, ObservableValue<String> delimiter) {
+        this.items = items;
+        this.delimiter = delimiter;
+
+        insertSegments(0, items);
+
+        items.addListener(weakItemsListener);
+        delimiterObserver = new BatchingObserver(this, delimiter);
+    }
+
+    private void onItemsChanged(ListChangeListener.Change<?> change) {
+        while (change.next()) {
+            final int from = change.getFrom();
+            final int to = change.getTo();
+
+            if (change.wasPermutated()) {
+                final String[] permuted = new String[to - from];
+                for (int i = from; i < to; i++) {
+                    permuted[change.getPermutation(i) - from] = segments.get(i);
+                }
+                for (int i = from; i < to; i++) {
+                    segments.set(i, permuted[i - from]);
+                }
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    final String segment = String.valueOf(items.get(i));
+                    segmentsLength += segment.length() - segments.set(i, segment).length();
+                }
+            } else {
+                final List<String> removed = segments.subList(from, from + change.getRemovedSize());
+                for (String segment : removed) {
+                    segmentsLength -= segment.length();
+                }
+                removed.clear();
+
+                insertSegments(from, change.getAddedSubList());
+            }
+        }
+
+        AdvancedBindings.invalidate(this);
+    }
+
+    private void insertSegments(int index, List<?> values) {
+        final List<String> inserted = new ArrayList<>(values.size());
+        for (Object value : values) {
+            final String segment = String.valueOf(value);
+            segmentsLength += segment.length();
+            inserted.add(segment);
+        }
+        segments.addAll(index, inserted);
+    }
+
+    @Override
+    protected String computeValue() {
+        if (segments.isEmpty()) {
+            return "";
+        }
+
+        final String joint = delimiter.getValue() == null ? "" : delimiter.getValue();
+        final long length = segmentsLength + (long) joint.length() * (segments.size() - 1);
+
+        final StringBuilder builder = new StringBuilder((int) Math.min(length, Integer.MAX_VALUE - 8));
+        builder.append(segments.get(0));
+        for (int i = 1; i < segments.size(); i++) {
+            builder.append(joint).append(segments.get(i));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public ObservableList<?> getDependencies() {
+        return FXCollections.observableArrayList(items, delimiter);
+    }
+
+    @Override
+    public void dispose() {
+        items.removeListener(weakItemsListener);
+        delimiterObserver.dispose();
+    }
+}
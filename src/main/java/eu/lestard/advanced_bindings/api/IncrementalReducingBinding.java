@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A binding that contains the (optionally mapped) reduction of all elements of an observable list.
+ *
+ * The elements are kept in a {@link ReductionTree} that is updated with the removed and added ranges of each
+ * list change. A change of the reducer only marks the partial reductions as stale, they are recombined once
+ * when the value of the binding is computed the next time.
+ *
+ * @param <T> the type of the elements.
+ * @param <R> the type of the binding.
+ */
+final class IncrementalReducingBinding<T, R> extends ObjectBinding<R> {
+
+    private final ObservableList<T> items;
+    private final ObservableValue<BinaryOperator<T>> reducer;
+    private final ObservableValue<Function<T, R>> mapper;
+    private final Supplier<T> supplier;
+
+    private final ReductionTree<T> tree = new ReductionTree<>();
+
+    private final ListChangeListener<T> itemsListener = this::onItemsChanged;
+    private final InvalidationListener reducerListener = observable -> {
+        tree.setOperator(null);
+        AdvancedBindings.invalidate(this);
+    };
+
+    private final WeakListChangeListener<T> weakItemsListener = new WeakListChangeListener<>(itemsListener);
+    private final WeakInvalidationListener weakReducerListener = new WeakInvalidationListener(reducerListener);
+
+    private final BatchingObserver mapperObserver;
+
+    /**
+     * @param mapper the observable mapping function or `null` if the reduction itself is the value of the binding.
+     *               In this case `R` has to be the same type as `T`.
+     */
+    IncrementalReducingBinding(ObservableList<T> items, ObservableValue<BinaryOperator<T>> reducer,
+                               ObservableValue<Function<T, R>> mapper, Supplier<T> supplier) {
+        this.items = items;
+        this.reducer = reducer;
+        this.mapper = mapper;
+        this.supplier = supplier;
+
+        tree.insert(0, items);
+
+        items.addListener(weakItemsListener);
+        reducer.addListener(weakReducerListener);
+
+        mapperObserver = mapper == null ? null : new BatchingObserver(this, mapper);
+    }
+
+    private void onItemsChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            final int from = change.getFrom();
+
+            if (change.wasPermutated() || change.wasUpdated()) {
+                tree.remove(from, change.getTo() - from);
+                tree.insert(from, items.subList(from, change.getTo()));
+            } else {
+                tree.remove(from, change.getRemovedSize());
+                tree.insert(from, change.getAddedSubList());
+            }
+        }
+
+        AdvancedBindings.invalidate(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected R computeValue() {
+        final T reduction;
+
+        if (tree.isEmpty()) {
+            reduction = supplier.get();
+        } else {
+            if (!tree.hasOperator()) {
+                tree.setOperator(reducer.getValue());
+            }
+            reduction = tree.reduction();
+        }
+
+        return mapper == null ? (R) reduction : mapper.getValue().apply(reduction);
+    }
+
+    @Override
+    public ObservableList<?> getDependencies() {
+        return mapper == null
+            ? FXCollections.observableArrayList(items, reducer)
+            : FXCollections.observableArrayList(items, reducer, mapper);
+    }
+
+    @Override
+    public void dispose() {
+        items.removeListener(weakItemsListener);
+        reducer.removeListener(weakReducerListener);
+
+        if (mapperObserver != null) {
+            mapperObserver.dispose();
+        }
+    }
+}
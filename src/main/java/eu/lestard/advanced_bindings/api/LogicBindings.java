@@ -23,9 +23,10 @@ package eu.lestard.advanced_bindings.api;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.IntegerBinding;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
 
-import java.util.Arrays;
 import java.util.Collection;
 
 
@@ -39,14 +40,15 @@ public class LogicBindings {
      * {@link Bindings#and(javafx.beans.value.ObservableBooleanValue, javafx.beans.value.ObservableBooleanValue)}
      * with 2 arguments isn't enough.
      *
+     * The binding counts the values that are `true`, so a change of one of the values is handled in constant time
+     * instead of checking all values again. A `null` value is treated as `false`.
+     *
      * @param values variable number of observable boolean values that are used for the binding
      * @return the boolean binding
      */
     @SafeVarargs
     public static BooleanBinding and(ObservableValue<Boolean>...values) {
-        return Bindings.createBooleanBinding(
-            ()-> Arrays.stream(values)
-                .allMatch(observable -> observable.getValue()), values);
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount == size);
     }
 
     /**
@@ -57,14 +59,46 @@ public class LogicBindings {
      * {@link Bindings#and(javafx.beans.value.ObservableBooleanValue, javafx.beans.value.ObservableBooleanValue)}
      * with 2 arguments isn't enough.
      *
+     * The binding observes the values that are in the collection when the binding is created. To follow changes
+     * of an observable list use {@link #allOf(ObservableList)}.
+     *
      * @param values collection of observable boolean values that are used for the binding
      * @return the boolean binding
      */
     @SuppressWarnings("unchecked")
-    public static BooleanBinding and(Collection<ObservableValue<Boolean>> values) {
+    public static BooleanBinding and(Collection<? extends ObservableValue<Boolean>> values) {
         return and(values.toArray(new ObservableValue[0]));
     }
 
+    /**
+     * A boolean binding that is `true` only when all observable boolean values of the list are `true`.
+     *
+     * Unlike {@link #and(Collection)}, which only observes the values that are in the list when the binding is
+     * created, the binding follows changes of the list: values that are added to the list are taken into account
+     * and values that are removed are no longer observed. Only the added
+     * and removed values are registered or unregistered, the other values of the list aren't touched.
+     * An empty list results in `true`. A `null` value is treated as `false`.
+     *
+     * @param values observable list of observable boolean values that are used for the binding
+     * @return the boolean binding
+     */
+    public static BooleanBinding allOf(ObservableList<? extends ObservableValue<Boolean>> values) {
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount == size);
+    }
+
+    /**
+     * A boolean binding that is `true` only when all values of the boolean array are `true`.
+     * An empty array results in `true`.
+     *
+     * The number of `true` values is maintained by the array, so the binding is computed in constant time.
+     *
+     * @param values the boolean array that is used for the binding
+     * @return the boolean binding
+     */
+    public static BooleanBinding and(ObservableBooleanArray values) {
+        return BatchingBindings.createBooleanBinding(() -> values.cardinality() == values.size(), values);
+    }
+
     /**
      * A boolean binding that is only `true` when at leased one of the dependent observable boolean values
      * are `true`.
@@ -73,13 +107,15 @@ public class LogicBindings {
      * {@link Bindings#or(javafx.beans.value.ObservableBooleanValue, javafx.beans.value.ObservableBooleanValue)}
      * with 2 arguments isn't enough.
      *
+     * The binding counts the values that are `true`, so a change of one of the values is handled in constant time
+     * instead of checking all values again. A `null` value is treated as `false`.
+     *
      * @param values variable number of observable boolean values that are used for the binding
      * @return the boolean binding
      */
     @SafeVarargs
     public static BooleanBinding or(ObservableValue<Boolean>...values) {
-        return Bindings.createBooleanBinding(()-> Arrays.stream(values)
-            .anyMatch(observable -> observable.getValue()), values);
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount > 0);
     }
 
     /**
@@ -90,11 +126,188 @@ public class LogicBindings {
      * {@link Bindings#or(javafx.beans.value.ObservableBooleanValue, javafx.beans.value.ObservableBooleanValue)}
      * with 2 arguments isn't enough.
      *
+     * The binding observes the values that are in the collection when the binding is created. To follow changes
+     * of an observable list use {@link #anyOf(ObservableList)}.
+     *
      * @param values collection of observable boolean values that are used for the binding
      * @return the boolean binding
      */
     @SuppressWarnings("unchecked")
-    public static BooleanBinding or(Collection<ObservableValue<Boolean>> values) {
+    public static BooleanBinding or(Collection<? extends ObservableValue<Boolean>> values) {
         return or(values.toArray(new ObservableValue[0]));
     }
+
+    /**
+     * A boolean binding that is `true` when at least one of the observable boolean values of the list
+     * is `true`.
+     *
+     * Unlike {@link #or(Collection)} the binding follows changes of the list, see {@link #allOf(ObservableList)}.
+     * An empty list results in `false`. A `null` value is treated as `false`.
+     *
+     * @param values observable list of observable boolean values that are used for the binding
+     * @return the boolean binding
+     */
+    public static BooleanBinding anyOf(ObservableList<? extends ObservableValue<Boolean>> values) {
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount > 0);
+    }
+
+    /**
+     * A boolean binding that is `true` when at least one value of the boolean array is `true`.
+     * An empty array results in `false`.
+     *
+     * The number of `true` values is maintained by the array, so the binding is computed in constant time.
+     *
+     * @param values the boolean array that is used for the binding
+     * @return the boolean binding
+     */
+    public static BooleanBinding or(ObservableBooleanArray values) {
+        return BatchingBindings.createBooleanBinding(() -> values.cardinality() > 0, values);
+    }
+
+    /**
+     * A boolean binding that is `true` only when none of the dependent observable boolean values are `true`.
+     * It is the negation of {@link #or(ObservableValue[])}. A `null` value is treated as `false`.
+     *
+     * @param values variable number of observable boolean values that are used for the binding
+     * @return the boolean binding
+     */
+    @SafeVarargs
+    public static BooleanBinding none(ObservableValue<Boolean>...values) {
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount == 0);
+    }
+
+    /**
+     * A boolean binding that is `true` only when none of the observable boolean values of the list are `true`.
+     *
+     * The binding follows changes of the list, see {@link #allOf(ObservableList)}.
+     * An empty list results in `true`. A `null` value is treated as `false`.
+     *
+     * @param values observable list of observable boolean values that are used for the binding
+     * @return the boolean binding
+     */
+    public static BooleanBinding noneOf(ObservableList<? extends ObservableValue<Boolean>> values) {
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount == 0);
+    }
+
+    /**
+     * A boolean binding that is `true` only when none of the values of the boolean array are `true`.
+     *
+     * @param values the boolean array that is used for the binding
+     * @return the boolean binding
+     */
+    public static BooleanBinding none(ObservableBooleanArray values) {
+        return BatchingBindings.createBooleanBinding(() -> values.cardinality() == 0, values);
+    }
+
+    /**
+     * An integer binding that contains the number of observable boolean values of the list that are `true`.
+     *
+     * The binding follows changes of the list, see {@link #allOf(ObservableList)}. A `null` value is not counted.
+     *
+     * @param values observable list of observable boolean values that are counted
+     * @return the integer binding
+     */
+    public static IntegerBinding countTrue(ObservableList<? extends ObservableValue<Boolean>> values) {
+        return new BooleanCounter(values).createCountBinding();
+    }
+
+    /**
+     * An integer binding that contains the number of dependent observable boolean values that are `true`.
+     *
+     * Like all bindings of this class that are based on the number of `true` values, a change of one of the
+     * values is handled in constant time. A `null` value is not counted.
+     *
+     * @param values variable number of observable boolean values that are counted
+     * @return the integer binding
+     */
+    @SafeVarargs
+    public static IntegerBinding countTrue(ObservableValue<Boolean>...values) {
+        return new BooleanCounter(values).createCountBinding();
+    }
+
+    /**
+     * An integer binding that contains the number of `true` values of the boolean array.
+     *
+     * @param values the boolean array whose values are counted
+     * @return the integer binding
+     */
+    public static IntegerBinding countTrue(ObservableBooleanArray values) {
+        return BatchingBindings.createIntegerBinding(values::cardinality, values);
+    }
+
+    /**
+     * A boolean binding that is `true` when at least `k` of the dependent observable boolean values are `true`.
+     * A `null` value is treated as `false`.
+     *
+     * @param k the minimal number of `true` values.
+     * @param values variable number of observable boolean values that are used for the binding
+     * @return the boolean binding
+     * @throws IllegalArgumentException if `k` is negative.
+     */
+    @SafeVarargs
+    public static BooleanBinding atLeast(int k, ObservableValue<Boolean>...values) {
+        requireNonNegative(k);
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount >= k);
+    }
+
+    /**
+     * A boolean binding that is `true` when at most `k` of the dependent observable boolean values are `true`.
+     * A `null` value is treated as `false`.
+     *
+     * @param k the maximal number of `true` values.
+     * @param values variable number of observable boolean values that are used for the binding
+     * @return the boolean binding
+     * @throws IllegalArgumentException if `k` is negative.
+     */
+    @SafeVarargs
+    public static BooleanBinding atMost(int k, ObservableValue<Boolean>...values) {
+        requireNonNegative(k);
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount <= k);
+    }
+
+    /**
+     * A boolean binding that is `true` when exactly `k` of the dependent observable boolean values are `true`.
+     * A `null` value is treated as `false`.
+     *
+     * @param k the number of `true` values.
+     * @param values variable number of observable boolean values that are used for the binding
+     * @return the boolean binding
+     * @throws IllegalArgumentException if `k` is negative.
+     */
+    @SafeVarargs
+    public static BooleanBinding exactly(int k, ObservableValue<Boolean>...values) {
+        requireNonNegative(k);
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount == k);
+    }
+
+    /**
+     * A boolean binding that is `true` when more than half of the dependent observable boolean values are `true`.
+     * A tie, for example 2 of 4 values, results in `false`. A `null` value is treated as `false`.
+     *
+     * @param values variable number of observable boolean values that are used for the binding
+     * @return the boolean binding
+     */
+    @SafeVarargs
+    public static BooleanBinding majority(ObservableValue<Boolean>...values) {
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount > size - trueCount);
+    }
+
+    /**
+     * A boolean binding that is the exclusive or of the dependent observable boolean values, i.e. it is `true`
+     * when an odd number of the values are `true`. For two values this is the same as
+     * `a.isNotEqualTo(b)`. A `null` value is treated as `false`.
+     *
+     * @param values variable number of observable boolean values that are used for the binding
+     * @return the boolean binding
+     */
+    @SafeVarargs
+    public static BooleanBinding xor(ObservableValue<Boolean>...values) {
+        return new BooleanCounter(values).createBinding((trueCount, size) -> trueCount % 2 == 1);
+    }
+
+    private static void requireNonNegative(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("The number of values has to be non-negative but was " + k);
+        }
+    }
 }
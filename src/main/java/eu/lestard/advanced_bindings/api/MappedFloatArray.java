@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArrayBase;
+import javafx.collections.ObservableFloatArray;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An unmodifiable observable float array whose values are the results of a function applied to the values
+ * of a source array.
+ *
+ * The array keeps its own copy of the results. A change of the source array only recomputes the range that is
+ * reported by the {@link ArrayChangeListener}: the range is copied from the source in bulk and the function
+ * is applied in a single loop over the copy. Afterwards this array reports a change of the same range.
+ *
+ * The array is registered at the source array with a weak listener, so it can be garbage collected
+ * independently from the source array.
+ */
+final class MappedFloatArray extends ObservableArrayBase<ObservableFloatArray> implements ObservableFloatArray {
+
+    private final ObservableFloatArray source;
+    private final DoubleUnaryOperator function;
+
+    private final ArrayChangeListener<ObservableFloatArray> sourceListener = (array, sizeChanged, from, to) -> {
+        final int oldSize = size();
+        final int newSize = array.size();
+
+        // when the size has changed all values behind "from" are affected
+        final int changedTo = sizeChanged ? newSize : to;
+
+        update(from, changedTo, newSize);
+        fireChange(sizeChanged, from, sizeChanged ? Math.max(oldSize, newSize) : to);
+    };
+
+    private float[] values = new float[0];
+    private int size;
+
+    MappedFloatArray(ObservableFloatArray source, DoubleUnaryOperator function) {
+        this.source = source;
+        this.function = function;
+
+        update(0, source.size(), source.size());
+        source.addListener(new WeakArrayChangeListener<>(sourceListener));
+    }
+
+    private void update(int from, int to, int newSize) {
+        if (values.length < newSize) {
+            values = Arrays.copyOf(values, Math.max(newSize, values.length + (values.length >> 1)));
+        }
+        size = newSize;
+
+        if (from >= to) {
+            return;
+        }
+
+        source.copyTo(from, values, from, to - from);
+        for (int i = from; i < to; i++) {
+            values[i] = (float) function.applyAsDouble(values[i]);
+        }
+    }
+
+    @Override
+    public float get(int index) {
+        rangeCheck(index + 1);
+        return values[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void copyTo(int srcIndex, float[] dest, int destIndex, int length) {
+        rangeCheck(srcIndex + length);
+        System.arraycopy(values, srcIndex, dest, destIndex, length);
+    }
+
+    @Override
+    public void copyTo(int srcIndex, ObservableFloatArray dest, int destIndex, int length) {
+        rangeCheck(srcIndex + length);
+        dest.set(destIndex, values, srcIndex, length);
+    }
+
+    @Override
+    public float[] toArray(float[] dest) {
+        return toArray(0, dest, size);
+    }
+
+    @Override
+    public float[] toArray(int srcIndex, float[] dest, int length) {
+        rangeCheck(srcIndex + length);
+        if (dest == null || dest.length < length) {
+            dest = new float[length];
+        }
+        System.arraycopy(values, srcIndex, dest, 0, length);
+        return dest;
+    }
+
+    @Override
+    public void resize(int size) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void trimToSize() {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void clear() {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void addAll(float... elements) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void addAll(ObservableFloatArray src) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void addAll(float[] src, int srcIndex, int length) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void addAll(ObservableFloatArray src, int srcIndex, int length) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setAll(float... elements) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setAll(float[] src, int srcIndex, int length) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setAll(ObservableFloatArray src) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void setAll(ObservableFloatArray src, int srcIndex, int length) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void set(int destIndex, float[] src, int srcIndex, int length) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void set(int destIndex, ObservableFloatArray src, int srcIndex, int length) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public void set(int index, float value) {
+        throw unmodifiable();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray(null));
+    }
+
+    private void rangeCheck(int end) {
+        if (end > size) {
+            throw new ArrayIndexOutOfBoundsException(size);
+        }
+    }
+
+    private static UnsupportedOperationException unmodifiable() {
+        return new UnsupportedOperationException("The mapped array can't be modified. Modify the source array instead.");
+    }
+}
@@ -21,6 +21,8 @@
  */
 package eu.lestard.advanced_bindings.api;
 
+import javafx.beans.Observable;
+import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.binding.FloatBinding;
 import javafx.beans.binding.IntegerBinding;
@@ -29,8 +31,17 @@ import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableFloatValue;
 import javafx.beans.value.ObservableIntegerValue;
 import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableNumberValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableList;
 
-import static javafx.beans.binding.Bindings.*;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongSupplier;
+
+import static eu.lestard.advanced_bindings.api.PrimitiveBindings.*;
 
 
 /**
@@ -40,6 +51,141 @@ import static javafx.beans.binding.Bindings.*;
  */
 public class MathBindings {
 
+    /**
+     * An integer binding whose value is clamped to the range of `int` instead of overflowing, see for example
+     * {@link #addSaturated(ObservableIntegerValue, ObservableIntegerValue)}.
+     *
+     * The exact result is computed as `long`, so overflows are detected without throwing and catching an
+     * {@link ArithmeticException}. Whether the result has been clamped is available as {@link #overflowed()}.
+     */
+    public static final class SaturatedIntegerBinding extends IntegerBinding {
+
+        private final LongSupplier exactValue;
+        private final Observable[] dependencies;
+        private final BatchingObserver observer;
+
+        private BooleanBinding overflowed;
+
+        private SaturatedIntegerBinding(final LongSupplier exactValue, final Observable... dependencies) {
+            this.exactValue = exactValue;
+            this.dependencies = dependencies;
+
+            observer = new BatchingObserver(this, dependencies);
+        }
+
+        /**
+         * @return a binding that is `true` while the exact result doesn't fit into an `int`
+         * and the value of this binding is clamped.
+         */
+        public BooleanBinding overflowed() {
+            if (overflowed == null) {
+                overflowed = new OverflowBinding(() -> SaturatedArithmetic.overflowsInt(exactValue.getAsLong()), dependencies);
+            }
+            return overflowed;
+        }
+
+        @Override
+        protected int computeValue() {
+            return SaturatedArithmetic.clampToInt(exactValue.getAsLong());
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(dependencies));
+        }
+
+        @Override
+        public void dispose() {
+            observer.dispose();
+            if (overflowed != null) {
+                overflowed.dispose();
+            }
+        }
+    }
+
+    /**
+     * A long binding whose value is clamped to the range of `long` instead of overflowing, see for example
+     * {@link #addSaturated(ObservableLongValue, ObservableLongValue)}.
+     *
+     * Overflows are detected with bit operations on the arguments and the result, so no {@link ArithmeticException}
+     * is thrown and caught. Whether the result has been clamped is available as {@link #overflowed()}.
+     */
+    public static final class SaturatedLongBinding extends LongBinding {
+
+        private final LongSupplier value;
+        private final BooleanSupplier overflow;
+        private final Observable[] dependencies;
+        private final BatchingObserver observer;
+
+        private BooleanBinding overflowed;
+
+        private SaturatedLongBinding(final LongSupplier value, final BooleanSupplier overflow, final Observable... dependencies) {
+            this.value = value;
+            this.overflow = overflow;
+            this.dependencies = dependencies;
+
+            observer = new BatchingObserver(this, dependencies);
+        }
+
+        /**
+         * @return a binding that is `true` while the exact result doesn't fit into a `long`
+         * and the value of this binding is clamped.
+         */
+        public BooleanBinding overflowed() {
+            if (overflowed == null) {
+                overflowed = new OverflowBinding(overflow, dependencies);
+            }
+            return overflowed;
+        }
+
+        @Override
+        protected long computeValue() {
+            return value.getAsLong();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(dependencies));
+        }
+
+        @Override
+        public void dispose() {
+            observer.dispose();
+            if (overflowed != null) {
+                overflowed.dispose();
+            }
+        }
+    }
+
+    private static final class OverflowBinding extends BooleanBinding {
+
+        private final BooleanSupplier overflow;
+        private final Observable[] dependencies;
+        private final BatchingObserver observer;
+
+        private OverflowBinding(final BooleanSupplier overflow, final Observable[] dependencies) {
+            this.overflow = overflow;
+            this.dependencies = dependencies;
+
+            observer = new BatchingObserver(this, dependencies);
+        }
+
+        @Override
+        protected boolean computeValue() {
+            return overflow.getAsBoolean();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(dependencies));
+        }
+
+        @Override
+        public void dispose() {
+            observer.dispose();
+        }
+    }
+
     /**
      * Binding for {@link java.lang.Math#abs(int)}
      *
@@ -47,7 +193,7 @@ public class MathBindings {
      * @return  the absolute value of the argument.
      */
     public static IntegerBinding abs(final ObservableIntegerValue a) {
-        return createIntegerBinding(() -> Math.abs(a.get()), a);
+        return integerBinding(a, Math::abs);
     }
 
     /**
@@ -57,7 +203,7 @@ public class MathBindings {
      * @return  the absolute value of the argument.
      */
     public static DoubleBinding abs(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.abs(a.get()), a);
+        return doubleBinding(a, Math::abs);
     }
 
     /**
@@ -67,7 +213,7 @@ public class MathBindings {
      * @return  the absolute value of the argument.
      */
     public static LongBinding abs(final ObservableLongValue a) {
-        return createLongBinding(() -> Math.abs(a.get()), a);
+        return longBinding(a, Math::abs);
     }
 
     /**
@@ -77,7 +223,7 @@ public class MathBindings {
      * @return  the absolute value of the argument.
      */
     public static FloatBinding abs(final ObservableFloatValue a) {
-        return createFloatBinding(() -> Math.abs(a.get()), a);
+        return floatBinding(a, value -> Math.abs((float) value));
     }
 
 
@@ -90,7 +236,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding addExact(final ObservableIntegerValue x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.addExact(x.get(), y.get()), x, y);
+        return integerBinding(x, y, Math::addExact);
     }
 
     /**
@@ -102,7 +248,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding addExact(final int x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.addExact(x, y.get()), y);
+        return integerBinding(y, value -> Math.addExact(x, value));
     }
 
     /**
@@ -114,7 +260,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding addExact(final ObservableIntegerValue x, final int y) {
-        return createIntegerBinding(() -> Math.addExact(x.get(), y), x);
+        return integerBinding(x, value -> Math.addExact(value, y));
     }
 
 
@@ -128,7 +274,7 @@ public class MathBindings {
      *
      */
     public static LongBinding addExact(final ObservableLongValue x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.addExact(x.get(), y.get()), x, y);
+        return longBinding(x, y, Math::addExact);
     }
 
     /**
@@ -140,7 +286,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding addExact(final long x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.addExact(x, y.get()), y);
+        return longBinding(y, value -> Math.addExact(x, value));
     }
 
     /**
@@ -152,7 +298,79 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding addExact(final ObservableLongValue x, final long y) {
-        return createLongBinding(() -> Math.addExact(x.get(), y), x);
+        return longBinding(x, value -> Math.addExact(value, y));
+    }
+
+    /**
+     * Saturating variant of {@link #addExact(ObservableIntegerValue, ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding addSaturated(final ObservableIntegerValue x, final ObservableIntegerValue y) {
+        return new SaturatedIntegerBinding(() -> (long) x.get() + y.get(), x, y);
+    }
+
+    /**
+     * Saturating variant of {@link #addExact(int, ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding addSaturated(final int x, final ObservableIntegerValue y) {
+        return new SaturatedIntegerBinding(() -> (long) x + y.get(), y);
+    }
+
+    /**
+     * Saturating variant of {@link #addExact(ObservableIntegerValue, int)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding addSaturated(final ObservableIntegerValue x, final int y) {
+        return new SaturatedIntegerBinding(() -> (long) x.get() + y, x);
+    }
+
+    /**
+     * Saturating variant of {@link #addExact(ObservableLongValue, ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding addSaturated(final ObservableLongValue x, final ObservableLongValue y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.add(x.get(), y.get()), () -> SaturatedArithmetic.addOverflows(x.get(), y.get()), x, y);
+    }
+
+    /**
+     * Saturating variant of {@link #addExact(long, ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding addSaturated(final long x, final ObservableLongValue y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.add(x, y.get()), () -> SaturatedArithmetic.addOverflows(x, y.get()), y);
+    }
+
+    /**
+     * Saturating variant of {@link #addExact(ObservableLongValue, long)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding addSaturated(final ObservableLongValue x, final long y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.add(x.get(), y), () -> SaturatedArithmetic.addOverflows(x.get(), y), x);
     }
 
     /**
@@ -162,7 +380,7 @@ public class MathBindings {
      * @return  the arc cosine of the argument.
      */
     public static DoubleBinding acos(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.acos(a.get()), a);
+        return doubleBinding(a, Math::acos);
     }
 
 
@@ -173,7 +391,7 @@ public class MathBindings {
      * @return  the arc sine of the argument.
      */
     public static DoubleBinding asin(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.asin(a.get()), a);
+        return doubleBinding(a, Math::asin);
     }
 
     /**
@@ -183,7 +401,7 @@ public class MathBindings {
      * @return  the arc tangent of the argument.
      */
     public static DoubleBinding atan(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.atan(a.get()), a);
+        return doubleBinding(a, Math::atan);
     }
 
 
@@ -198,7 +416,7 @@ public class MathBindings {
      *          (<i>x</i>,&nbsp;<i>y</i>) in Cartesian coordinates.
      */
     public static DoubleBinding atan2(final ObservableDoubleValue y, final ObservableDoubleValue x) {
-        return createDoubleBinding(() -> Math.atan2(y.get(), x.get()), y, x);
+        return doubleBinding(y, x, Math::atan2);
     }
 
     /**
@@ -212,7 +430,7 @@ public class MathBindings {
      *          (<i>x</i>,&nbsp;<i>y</i>) in Cartesian coordinates.
      */
     public static DoubleBinding atan2(final double y, final ObservableDoubleValue x) {
-        return createDoubleBinding(() -> Math.atan2(y, x.get()), x);
+        return doubleBinding(x, value -> Math.atan2(y, value));
     }
 
     /**
@@ -226,7 +444,7 @@ public class MathBindings {
      *          (<i>x</i>,&nbsp;<i>y</i>) in Cartesian coordinates.
      */
     public static DoubleBinding atan2(final ObservableDoubleValue y, final double x) {
-        return createDoubleBinding(() -> Math.atan2(y.get(), x), y);
+        return doubleBinding(y, value -> Math.atan2(value, x));
     }
 
     /**
@@ -236,7 +454,7 @@ public class MathBindings {
      * @return  the cube root of {@code a}.
      */
     public static DoubleBinding cbrt(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.cbrt(a.get()), a);
+        return doubleBinding(a, Math::cbrt);
     }
 
     /**
@@ -248,10 +466,37 @@ public class MathBindings {
      *          the argument and is equal to a mathematical integer.
      */
     public static DoubleBinding ceil(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.ceil(a.get()), a);
+        return doubleBinding(a, Math::ceil);
     }
 
 
+    /**
+     * Creates a binding that evaluates a formula over observable numbers.
+     *
+     * The formula can contain numbers, the constants `PI` and `E`, variables, the operators `+`, `-`, `*`, `/`,
+     * `%` and `^` (power) with the usual precedence, parentheses and the functions
+     * `abs`, `sqrt`, `cbrt`, `exp`, `expm1`, `log`, `log10`, `log1p`, `sin`, `cos`, `tan`, `asin`, `acos`, `atan`,
+     * `sinh`, `cosh`, `tanh`, `floor`, `ceil`, `rint`, `signum`, `toRadians`, `toDegrees` as well as
+     * `pow`, `atan2`, `hypot`, `min` and `max` with two arguments. For example:
+     *
+     * ```java
+     * DoubleBinding distance = MathBindings.compile("hypot(x, y) * scale", variables);
+     * ```
+     *
+     * The formula is parsed once, constant parts are evaluated right away and the rest is compiled into
+     * a flat program that evaluates the whole formula in the `computeValue()` of a single binding.
+     * Compiled formulas are cached by their text, so creating another binding with the same formula
+     * is cheap. The binding only depends on the values of the variables.
+     *
+     * @param formula   the formula.
+     * @param variables the observable values of the variables, by their names. Additional entries are ignored.
+     * @return a binding of the value of the formula.
+     * @throws IllegalArgumentException if the formula is not valid or there is no value for one of its variables.
+     */
+    public static DoubleBinding compile(final String formula, final Map<String, ? extends ObservableNumberValue> variables) {
+        return CompiledFormula.compile(formula).createBinding(variables);
+    }
+
     /**
      * Binding for {@link java.lang.Math#copySign(double, double)}
      *
@@ -261,7 +506,7 @@ public class MathBindings {
      * and the sign of {@code sign}.
      */
     public static DoubleBinding copySign(final ObservableDoubleValue magnitude, ObservableDoubleValue sign) {
-        return createDoubleBinding(() -> Math.copySign(magnitude.get(), sign.get()), magnitude, sign);
+        return doubleBinding(magnitude, sign, Math::copySign);
     }
 
     /**
@@ -273,7 +518,7 @@ public class MathBindings {
      * and the sign of {@code sign}.
      */
     public static DoubleBinding copySign(final double magnitude, ObservableDoubleValue sign) {
-        return createDoubleBinding(() -> Math.copySign(magnitude, sign.get()), sign);
+        return doubleBinding(sign, value -> Math.copySign(magnitude, value));
     }
 
     /**
@@ -285,7 +530,7 @@ public class MathBindings {
      * and the sign of {@code sign}.
      */
     public static DoubleBinding copySign(final ObservableDoubleValue magnitude, double sign) {
-        return createDoubleBinding(() -> Math.copySign(magnitude.get(), sign), magnitude);
+        return doubleBinding(magnitude, value -> Math.copySign(value, sign));
     }
 
 
@@ -298,7 +543,7 @@ public class MathBindings {
      * and the sign of {@code sign}.
      */
     public static FloatBinding copySign(final ObservableFloatValue magnitude, ObservableFloatValue sign) {
-        return createFloatBinding(() -> Math.copySign(magnitude.get(), sign.get()), magnitude, sign);
+        return floatBinding(magnitude, sign, (first, second) -> Math.copySign((float) first, (float) second));
     }
 
     /**
@@ -310,7 +555,7 @@ public class MathBindings {
      * and the sign of {@code sign}.
      */
     public static FloatBinding copySign(final float magnitude, ObservableFloatValue sign) {
-        return createFloatBinding(() -> Math.copySign(magnitude, sign.get()), sign);
+        return floatBinding(sign, value -> Math.copySign(magnitude, (float) value));
     }
 
     /**
@@ -322,7 +567,7 @@ public class MathBindings {
      * and the sign of {@code sign}.
      */
     public static FloatBinding copySign(final ObservableFloatValue magnitude, float sign) {
-        return createFloatBinding(() -> Math.copySign(magnitude.get(), sign), magnitude);
+        return floatBinding(magnitude, value -> Math.copySign((float) value, sign));
     }
 
     /**
@@ -332,7 +577,7 @@ public class MathBindings {
      * @return  the cosine of the argument.
      */
     public static DoubleBinding cos(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.cos(a.get()), a);
+        return doubleBinding(a, Math::cos);
     }
 
     /**
@@ -342,7 +587,7 @@ public class MathBindings {
      * @return  The hyperbolic cosine of {@code x}.
      */
     public static DoubleBinding cosh(final ObservableDoubleValue x) {
-        return createDoubleBinding(() -> Math.cosh(x.get()), x);
+        return doubleBinding(x, Math::cosh);
     }
 
     /**
@@ -353,7 +598,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding decrementExact(final ObservableIntegerValue a) {
-        return createIntegerBinding(() -> Math.decrementExact(a.get()), a);
+        return integerBinding(a, Math::decrementExact);
     }
 
     /**
@@ -364,7 +609,29 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding decrementExact(final ObservableLongValue a) {
-        return createLongBinding(() -> Math.decrementExact(a.get()), a);
+        return longBinding(a, Math::decrementExact);
+    }
+
+    /**
+     * Saturating variant of {@link #decrementExact(ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param a the value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding decrementSaturated(final ObservableIntegerValue a) {
+        return new SaturatedIntegerBinding(() -> a.get() - 1L, a);
+    }
+
+    /**
+     * Saturating variant of {@link #decrementExact(ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param a the value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding decrementSaturated(final ObservableLongValue a) {
+        return new SaturatedLongBinding(() -> a.get() == Long.MIN_VALUE ? Long.MIN_VALUE : a.get() - 1, () -> a.get() == Long.MIN_VALUE, a);
     }
 
     /**
@@ -375,7 +642,7 @@ public class MathBindings {
      *          where <i>e</i> is the base of the natural logarithms.
      */
     public static DoubleBinding exp(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.exp(a.get()), a);
+        return doubleBinding(a, Math::exp);
     }
 
     /**
@@ -386,7 +653,7 @@ public class MathBindings {
      * @return  the value <i>e</i><sup>{@code x}</sup>&nbsp;-&nbsp;1.
      */
     public static DoubleBinding expm1(final ObservableDoubleValue x) {
-        return createDoubleBinding(() -> Math.expm1(x.get()), x);
+        return doubleBinding(x, Math::expm1);
     }
 
     /**
@@ -398,7 +665,7 @@ public class MathBindings {
      *          and is equal to a mathematical integer.
      */
     public static DoubleBinding floor(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.floor(a.get()), a);
+        return doubleBinding(a, Math::floor);
     }
 
 
@@ -412,7 +679,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static IntegerBinding floorDiv(final ObservableIntegerValue x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.floorDiv(x.get(), y.get()), x, y);
+        return integerBinding(x, y, Math::floorDiv);
     }
 
     /**
@@ -425,7 +692,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static IntegerBinding floorDiv(final int x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.floorDiv(x, y.get()), y);
+        return integerBinding(y, value -> Math.floorDiv(x, value));
     }
 
     /**
@@ -438,7 +705,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static IntegerBinding floorDiv(final ObservableIntegerValue x, final int y) {
-        return createIntegerBinding(() -> Math.floorDiv(x.get(), y), x);
+        return integerBinding(x, value -> Math.floorDiv(value, y));
     }
 
 
@@ -452,7 +719,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static LongBinding floorDiv(final ObservableLongValue x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.floorDiv(x.get(), y.get()), x, y);
+        return longBinding(x, y, Math::floorDiv);
     }
 
     /**
@@ -465,7 +732,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static LongBinding floorDiv(final long x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.floorDiv(x, y.get()), y);
+        return longBinding(y, value -> Math.floorDiv(x, value));
     }
 
     /**
@@ -478,7 +745,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static LongBinding floorDiv(final ObservableLongValue x, final long y) {
-        return createLongBinding(() -> Math.floorDiv(x.get(), y), x);
+        return longBinding(x, value -> Math.floorDiv(value, y));
     }
 
 
@@ -491,7 +758,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static IntegerBinding floorMod(final ObservableIntegerValue x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.floorMod(x.get(), y.get()), x, y);
+        return integerBinding(x, y, Math::floorMod);
     }
 
     /**
@@ -503,7 +770,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static IntegerBinding floorMod(final int x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.floorMod(x, y.get()), y);
+        return integerBinding(y, value -> Math.floorMod(x, value));
     }
 
     /**
@@ -515,7 +782,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static IntegerBinding floorMod(final ObservableIntegerValue x, final int y) {
-        return createIntegerBinding(() -> Math.floorMod(x.get(), y), x);
+        return integerBinding(x, value -> Math.floorMod(value, y));
     }
 
 
@@ -528,7 +795,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static LongBinding floorMod(final ObservableLongValue x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.floorMod(x.get(), y.get()), x, y);
+        return longBinding(x, y, Math::floorMod);
     }
 
     /**
@@ -540,7 +807,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static LongBinding floorMod(final long x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.floorMod(x, y.get()), y);
+        return longBinding(y, value -> Math.floorMod(x, value));
     }
 
     /**
@@ -552,7 +819,7 @@ public class MathBindings {
      * @throws ArithmeticException if the divisor {@code y} is zero
      */
     public static LongBinding floorMod(final ObservableLongValue x, final long y) {
-        return createLongBinding(() -> Math.floorMod(x.get(), y), x);
+        return longBinding(x, value -> Math.floorMod(value, y));
     }
 
     /**
@@ -562,7 +829,7 @@ public class MathBindings {
      * @return the unbiased exponent of the argument
      */
     public static IntegerBinding getExponent(final ObservableDoubleValue d) {
-        return createIntegerBinding(() -> Math.getExponent(d.get()), d);
+        return doubleToIntegerBinding(d, Math::getExponent);
     }
 
     /**
@@ -572,7 +839,7 @@ public class MathBindings {
      * @return the unbiased exponent of the argument
      */
     public static IntegerBinding getExponent(final ObservableFloatValue f) {
-        return createIntegerBinding(() -> Math.getExponent(f.get()), f);
+        return doubleToIntegerBinding(f, value -> Math.getExponent((float) value));
     }
 
 
@@ -585,7 +852,7 @@ public class MathBindings {
      * without intermediate overflow or underflow
      */
     public static DoubleBinding hypot(final ObservableDoubleValue x, final ObservableDoubleValue y) {
-        return createDoubleBinding(() -> Math.hypot(x.get(), y.get()), x, y);
+        return doubleBinding(x, y, Math::hypot);
     }
 
     /**
@@ -597,7 +864,7 @@ public class MathBindings {
      * without intermediate overflow or underflow
      */
     public static DoubleBinding hypot(final double x, final ObservableDoubleValue y) {
-        return createDoubleBinding(() -> Math.hypot(x, y.get()), y);
+        return doubleBinding(y, value -> Math.hypot(x, value));
     }
 
     /**
@@ -609,7 +876,7 @@ public class MathBindings {
      * without intermediate overflow or underflow
      */
     public static DoubleBinding hypot(final ObservableDoubleValue x, final double y) {
-        return createDoubleBinding(() -> Math.hypot(x.get(), y), x);
+        return doubleBinding(x, value -> Math.hypot(value, y));
     }
 
 
@@ -622,7 +889,7 @@ public class MathBindings {
      *          {@code f2}.
      */
     public static DoubleBinding IEEEremainder(final ObservableDoubleValue f1, final ObservableDoubleValue f2) {
-        return createDoubleBinding(() -> Math.IEEEremainder(f1.get(), f2.get()), f1, f2);
+        return doubleBinding(f1, f2, Math::IEEEremainder);
     }
 
     /**
@@ -634,7 +901,7 @@ public class MathBindings {
      *          {@code f2}.
      */
     public static DoubleBinding IEEEremainder(final double f1, final ObservableDoubleValue f2) {
-        return createDoubleBinding(() -> Math.IEEEremainder(f1, f2.get()), f2);
+        return doubleBinding(f2, value -> Math.IEEEremainder(f1, value));
     }
 
     /**
@@ -646,7 +913,7 @@ public class MathBindings {
      *          {@code f2}.
      */
     public static DoubleBinding IEEEremainder(final ObservableDoubleValue f1, final double f2) {
-        return createDoubleBinding(() -> Math.IEEEremainder(f1.get(), f2), f1);
+        return doubleBinding(f1, value -> Math.IEEEremainder(value, f2));
     }
 
 
@@ -658,7 +925,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding incrementExact(final ObservableIntegerValue a) {
-        return createIntegerBinding(() -> Math.incrementExact(a.get()), a);
+        return integerBinding(a, Math::incrementExact);
     }
 
     /**
@@ -669,7 +936,29 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding incrementExact(final ObservableLongValue a) {
-        return createLongBinding(() -> Math.incrementExact(a.get()), a);
+        return longBinding(a, Math::incrementExact);
+    }
+
+    /**
+     * Saturating variant of {@link #incrementExact(ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param a the value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding incrementSaturated(final ObservableIntegerValue a) {
+        return new SaturatedIntegerBinding(() -> a.get() + 1L, a);
+    }
+
+    /**
+     * Saturating variant of {@link #incrementExact(ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param a the value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding incrementSaturated(final ObservableLongValue a) {
+        return new SaturatedLongBinding(() -> a.get() == Long.MAX_VALUE ? Long.MAX_VALUE : a.get() + 1, () -> a.get() == Long.MAX_VALUE, a);
     }
 
     /**
@@ -680,7 +969,7 @@ public class MathBindings {
      *          {@code a}.
      */
     public static DoubleBinding log(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.log(a.get()), a);
+        return doubleBinding(a, Math::log);
     }
 
     /**
@@ -690,7 +979,7 @@ public class MathBindings {
      * @return  the base 10 logarithm of  {@code a}.
      */
     public static DoubleBinding log10(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.log10(a.get()), a);
+        return doubleBinding(a, Math::log10);
     }
 
     /**
@@ -701,7 +990,35 @@ public class MathBindings {
      * log of {@code x}&nbsp;+&nbsp;1
      */
     public static DoubleBinding log1p(final ObservableDoubleValue x) {
-        return createDoubleBinding(() -> Math.log1p(x.get()), x);
+        return doubleBinding(x, Math::log1p);
+    }
+
+    /**
+     * Creates an observable float array that contains the results of the given function applied to every value
+     * of the source array. This is an alternative to creating a single binding per value, for example for the
+     * coordinates of many particles:
+     *
+     * ```java
+     * ObservableFloatArray angles = FXCollections.observableFloatArray(0, 0.5f, 1);
+     *
+     * ObservableFloatArray sines = MathBindings.map(angles, Math::sin);
+     *
+     * angles.set(1, 1.5f); // only the value at index 1 is recomputed
+     * ```
+     *
+     * The mapped array listens to the source array with a single listener. When the source changes only the
+     * changed range is recomputed and reported as a change of the mapped array. The function is evaluated
+     * with `double` precision and the result is stored as `float`.
+     *
+     * The mapped array can't be modified directly. It is referenced weakly by the source array so it is
+     * updated as long as it is referenced elsewhere.
+     *
+     * @param source the source array.
+     * @param function the function that is applied to every value, for example `Math::sin`.
+     * @return an unmodifiable observable float array with the mapped values.
+     */
+    public static ObservableFloatArray map(final ObservableFloatArray source, final DoubleUnaryOperator function) {
+        return new MappedFloatArray(source, function);
     }
 
 
@@ -713,7 +1030,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static DoubleBinding max(final ObservableDoubleValue a, final ObservableDoubleValue b) {
-        return createDoubleBinding(() -> Math.max(a.get(), b.get()), a, b);
+        return doubleBinding(a, b, Math::max);
     }
 
     /**
@@ -724,7 +1041,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static DoubleBinding max(final double a, final ObservableDoubleValue b) {
-        return createDoubleBinding(() -> Math.max(a, b.get()), b);
+        return doubleBinding(b, value -> Math.max(a, value));
     }
 
     /**
@@ -735,7 +1052,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static DoubleBinding max(final ObservableDoubleValue a, final double b) {
-        return createDoubleBinding(() -> Math.max(a.get(), b), a);
+        return doubleBinding(a, value -> Math.max(value, b));
     }
 
 
@@ -747,7 +1064,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static FloatBinding max(final ObservableFloatValue a, final ObservableFloatValue b) {
-        return createFloatBinding(() -> Math.max(a.get(), b.get()), a, b);
+        return floatBinding(a, b, (first, second) -> Math.max((float) first, (float) second));
     }
 
     /**
@@ -758,7 +1075,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static FloatBinding max(final float a, final ObservableFloatValue b) {
-        return createFloatBinding(() -> Math.max(a, b.get()), b);
+        return floatBinding(b, value -> Math.max(a, (float) value));
     }
 
     /**
@@ -769,7 +1086,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static FloatBinding max(final ObservableFloatValue a, final float b) {
-        return createFloatBinding(() -> Math.max(a.get(), b), a);
+        return floatBinding(a, value -> Math.max((float) value, b));
     }
 
 
@@ -781,7 +1098,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static IntegerBinding max(final ObservableIntegerValue a, final ObservableIntegerValue b) {
-        return createIntegerBinding(() -> Math.max(a.get(), b.get()), a, b);
+        return integerBinding(a, b, Math::max);
     }
 
     /**
@@ -792,7 +1109,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static IntegerBinding max(final int a, final ObservableIntegerValue b) {
-        return createIntegerBinding(() -> Math.max(a, b.get()), b);
+        return integerBinding(b, value -> Math.max(a, value));
     }
 
     /**
@@ -803,7 +1120,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static IntegerBinding max(final ObservableIntegerValue a, final int b) {
-        return createIntegerBinding(() -> Math.max(a.get(), b), a);
+        return integerBinding(a, value -> Math.max(value, b));
     }
 
     /**
@@ -814,7 +1131,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static LongBinding max(final ObservableLongValue a, final ObservableLongValue b) {
-        return createLongBinding(() -> Math.max(a.get(), b.get()), a, b);
+        return longBinding(a, b, Math::max);
     }
 
     /**
@@ -825,7 +1142,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static LongBinding max(final long a, final ObservableLongValue b) {
-        return createLongBinding(() -> Math.max(a, b.get()), b);
+        return longBinding(b, value -> Math.max(a, value));
     }
 
     /**
@@ -836,7 +1153,7 @@ public class MathBindings {
      * @return  the larger of {@code a} and {@code b}.
      */
     public static LongBinding max(final ObservableLongValue a, final long b) {
-        return createLongBinding(() -> Math.max(a.get(), b), a);
+        return longBinding(a, value -> Math.max(value, b));
     }
 
 
@@ -848,7 +1165,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static DoubleBinding min(final ObservableDoubleValue a, final ObservableDoubleValue b) {
-        return createDoubleBinding(() -> Math.min(a.get(), b.get()), a, b);
+        return doubleBinding(a, b, Math::min);
     }
 
     /**
@@ -859,7 +1176,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static DoubleBinding min(final double a, final ObservableDoubleValue b) {
-        return createDoubleBinding(() -> Math.min(a, b.get()), b);
+        return doubleBinding(b, value -> Math.min(a, value));
     }
 
     /**
@@ -870,7 +1187,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static DoubleBinding min(final ObservableDoubleValue a, final double b) {
-        return createDoubleBinding(() -> Math.min(a.get(), b), a);
+        return doubleBinding(a, value -> Math.min(value, b));
     }
 
 
@@ -882,7 +1199,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static FloatBinding min(final ObservableFloatValue a, final ObservableFloatValue b) {
-        return createFloatBinding(() -> Math.min(a.get(), b.get()), a, b);
+        return floatBinding(a, b, (first, second) -> Math.min((float) first, (float) second));
     }
 
     /**
@@ -893,7 +1210,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static FloatBinding min(final float a, final ObservableFloatValue b) {
-        return createFloatBinding(() -> Math.min(a, b.get()), b);
+        return floatBinding(b, value -> Math.min(a, (float) value));
     }
 
     /**
@@ -904,7 +1221,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static FloatBinding min(final ObservableFloatValue a, final float b) {
-        return createFloatBinding(() -> Math.min(a.get(), b), a);
+        return floatBinding(a, value -> Math.min((float) value, b));
     }
 
 
@@ -916,7 +1233,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static IntegerBinding min(final ObservableIntegerValue a, final ObservableIntegerValue b) {
-        return createIntegerBinding(() -> Math.min(a.get(), b.get()), a, b);
+        return integerBinding(a, b, Math::min);
     }
 
     /**
@@ -927,7 +1244,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static IntegerBinding min(final int a, final ObservableIntegerValue b) {
-        return createIntegerBinding(() -> Math.min(a, b.get()), b);
+        return integerBinding(b, value -> Math.min(a, value));
     }
 
     /**
@@ -938,7 +1255,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static IntegerBinding min(final ObservableIntegerValue a, final int b) {
-        return createIntegerBinding(() -> Math.min(a.get(), b), a);
+        return integerBinding(a, value -> Math.min(value, b));
     }
 
     /**
@@ -949,7 +1266,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static LongBinding min(final ObservableLongValue a, final ObservableLongValue b) {
-        return createLongBinding(() -> Math.min(a.get(), b.get()), a, b);
+        return longBinding(a, b, Math::min);
     }
 
     /**
@@ -960,7 +1277,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static LongBinding min(final long a, final ObservableLongValue b) {
-        return createLongBinding(() -> Math.min(a, b.get()), b);
+        return longBinding(b, value -> Math.min(a, value));
     }
 
     /**
@@ -971,7 +1288,7 @@ public class MathBindings {
      * @return  the smaller of {@code a} and {@code b}.
      */
     public static LongBinding min(final ObservableLongValue a, final long b) {
-        return createLongBinding(() -> Math.min(a.get(), b), a);
+        return longBinding(a, value -> Math.min(value, b));
     }
 
 
@@ -984,7 +1301,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding multiplyExact(final ObservableIntegerValue x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.multiplyExact(x.get(), y.get()), x, y);
+        return integerBinding(x, y, Math::multiplyExact);
     }
 
     /**
@@ -996,7 +1313,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding multiplyExact(final int x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.multiplyExact(x, y.get()), y);
+        return integerBinding(y, value -> Math.multiplyExact(x, value));
     }
 
     /**
@@ -1008,7 +1325,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding multiplyExact(final ObservableIntegerValue x, final int y) {
-        return createIntegerBinding(() -> Math.multiplyExact(x.get(), y), x);
+        return integerBinding(x, value -> Math.multiplyExact(value, y));
     }
 
 
@@ -1021,7 +1338,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding multiplyExact(final ObservableLongValue x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.multiplyExact(x.get(), y.get()), x, y);
+        return longBinding(x, y, Math::multiplyExact);
     }
 
     /**
@@ -1033,7 +1350,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding multiplyExact(final long x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.multiplyExact(x, y.get()), y);
+        return longBinding(y, value -> Math.multiplyExact(x, value));
     }
 
     /**
@@ -1045,7 +1362,79 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding multiplyExact(final ObservableLongValue x, final long y) {
-        return createLongBinding(() -> Math.multiplyExact(x.get(), y), x);
+        return longBinding(x, value -> Math.multiplyExact(value, y));
+    }
+
+    /**
+     * Saturating variant of {@link #multiplyExact(ObservableIntegerValue, ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding multiplySaturated(final ObservableIntegerValue x, final ObservableIntegerValue y) {
+        return new SaturatedIntegerBinding(() -> (long) x.get() * y.get(), x, y);
+    }
+
+    /**
+     * Saturating variant of {@link #multiplyExact(int, ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding multiplySaturated(final int x, final ObservableIntegerValue y) {
+        return new SaturatedIntegerBinding(() -> (long) x * y.get(), y);
+    }
+
+    /**
+     * Saturating variant of {@link #multiplyExact(ObservableIntegerValue, int)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding multiplySaturated(final ObservableIntegerValue x, final int y) {
+        return new SaturatedIntegerBinding(() -> (long) x.get() * y, x);
+    }
+
+    /**
+     * Saturating variant of {@link #multiplyExact(ObservableLongValue, ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding multiplySaturated(final ObservableLongValue x, final ObservableLongValue y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.multiply(x.get(), y.get()), () -> SaturatedArithmetic.multiplyOverflows(x.get(), y.get()), x, y);
+    }
+
+    /**
+     * Saturating variant of {@link #multiplyExact(long, ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding multiplySaturated(final long x, final ObservableLongValue y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.multiply(x, y.get()), () -> SaturatedArithmetic.multiplyOverflows(x, y.get()), y);
+    }
+
+    /**
+     * Saturating variant of {@link #multiplyExact(ObservableLongValue, long)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding multiplySaturated(final ObservableLongValue x, final long y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.multiply(x.get(), y), () -> SaturatedArithmetic.multiplyOverflows(x.get(), y), x);
     }
 
     /**
@@ -1056,7 +1445,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding negateExact(final ObservableIntegerValue a) {
-        return createIntegerBinding(() -> Math.negateExact(a.get()), a);
+        return integerBinding(a, Math::negateExact);
     }
 
     /**
@@ -1067,7 +1456,29 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding negateExact(final ObservableLongValue a) {
-        return createLongBinding(() -> Math.negateExact(a.get()), a);
+        return longBinding(a, Math::negateExact);
+    }
+
+    /**
+     * Saturating variant of {@link #negateExact(ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param a the value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding negateSaturated(final ObservableIntegerValue a) {
+        return new SaturatedIntegerBinding(() -> -(long) a.get(), a);
+    }
+
+    /**
+     * Saturating variant of {@link #negateExact(ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param a the value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding negateSaturated(final ObservableLongValue a) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.negate(a.get()), () -> a.get() == Long.MIN_VALUE, a);
     }
 
 
@@ -1082,7 +1493,7 @@ public class MathBindings {
      * direction of {@code direction}.
      */
     public static DoubleBinding nextAfter(final ObservableDoubleValue start, final ObservableDoubleValue direction) {
-        return createDoubleBinding(() -> Math.nextAfter(start.get(), direction.get()), start, direction);
+        return doubleBinding(start, direction, Math::nextAfter);
     }
 
     /**
@@ -1096,7 +1507,7 @@ public class MathBindings {
      * direction of {@code direction}.
      */
     public static DoubleBinding nextAfter(final double start, final ObservableDoubleValue direction) {
-        return createDoubleBinding(() -> Math.nextAfter(start, direction.get()), direction);
+        return doubleBinding(direction, value -> Math.nextAfter(start, value));
     }
 
     /**
@@ -1110,7 +1521,7 @@ public class MathBindings {
      * direction of {@code direction}.
      */
     public static DoubleBinding nextAfter(final ObservableDoubleValue start, final double direction) {
-        return createDoubleBinding(() -> Math.nextAfter(start.get(), direction), start);
+        return doubleBinding(start, value -> Math.nextAfter(value, direction));
     }
 
 
@@ -1125,7 +1536,7 @@ public class MathBindings {
      * direction of {@code direction}.
      */
     public static FloatBinding nextAfter(final ObservableFloatValue start, final ObservableFloatValue direction) {
-        return createFloatBinding(() -> Math.nextAfter(start.get(), direction.get()), start, direction);
+        return floatBinding(start, direction, (first, second) -> Math.nextAfter((float) first, (float) second));
     }
 
     /**
@@ -1139,7 +1550,7 @@ public class MathBindings {
      * direction of {@code direction}.
      */
     public static FloatBinding nextAfter(final float start, final ObservableFloatValue direction) {
-        return createFloatBinding(() -> Math.nextAfter(start, direction.get()), direction);
+        return floatBinding(direction, value -> Math.nextAfter(start, (float) value));
     }
 
     /**
@@ -1153,7 +1564,7 @@ public class MathBindings {
      * direction of {@code direction}.
      */
     public static FloatBinding nextAfter(final ObservableFloatValue start, final float direction) {
-        return createFloatBinding(() -> Math.nextAfter(start.get(), direction), start);
+        return floatBinding(start, value -> Math.nextAfter((float) value, direction));
     }
 
 
@@ -1165,7 +1576,7 @@ public class MathBindings {
      * infinity.
      */
     public static DoubleBinding nextDown(final ObservableDoubleValue d) {
-        return createDoubleBinding(() -> Math.nextDown(d.get()), d);
+        return doubleBinding(d, Math::nextDown);
     }
 
     /**
@@ -1176,7 +1587,7 @@ public class MathBindings {
      * infinity.
      */
     public static FloatBinding nextDown(final ObservableFloatValue f) {
-        return createFloatBinding(() -> Math.nextDown(f.get()), f);
+        return floatBinding(f, value -> Math.nextDown((float) value));
     }
 
     /**
@@ -1187,7 +1598,7 @@ public class MathBindings {
      * infinity.
      */
     public static DoubleBinding nextUp(final ObservableDoubleValue d) {
-        return createDoubleBinding(() -> Math.nextUp(d.get()), d);
+        return doubleBinding(d, Math::nextUp);
     }
 
     /**
@@ -1198,7 +1609,7 @@ public class MathBindings {
      * infinity.
      */
     public static FloatBinding nextUp(final ObservableFloatValue f) {
-        return createFloatBinding(() -> Math.nextUp(f.get()), f);
+        return floatBinding(f, value -> Math.nextUp((float) value));
     }
 
 
@@ -1210,7 +1621,7 @@ public class MathBindings {
      * @return  the value {@code a}<sup>{@code b}</sup>.
      */
     public static DoubleBinding pow(final ObservableDoubleValue a, final ObservableDoubleValue b) {
-        return createDoubleBinding(() -> Math.pow(a.get(), b.get()), a, b);
+        return doubleBinding(a, b, Math::pow);
     }
 
     /**
@@ -1221,7 +1632,7 @@ public class MathBindings {
      * @return  the value {@code a}<sup>{@code b}</sup>.
      */
     public static DoubleBinding pow(final double a, final ObservableDoubleValue b) {
-        return createDoubleBinding(() -> Math.pow(a, b.get()), b);
+        return doubleBinding(b, value -> Math.pow(a, value));
     }
 
     /**
@@ -1232,7 +1643,7 @@ public class MathBindings {
      * @return  the value {@code a}<sup>{@code b}</sup>.
      */
     public static DoubleBinding pow(final ObservableDoubleValue a, final double b) {
-        return createDoubleBinding(() -> Math.pow(a.get(), b), a);
+        return doubleBinding(a, value -> Math.pow(value, b));
     }
 
     /**
@@ -1243,7 +1654,7 @@ public class MathBindings {
      *          equal to a mathematical integer.
      */
     public static DoubleBinding rint(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.rint(a.get()), a);
+        return doubleBinding(a, Math::rint);
     }
 
     /**
@@ -1255,7 +1666,7 @@ public class MathBindings {
      *          {@code long} value.
      */
     public static LongBinding round(final ObservableDoubleValue a) {
-        return createLongBinding(() -> Math.round(a.get()), a);
+        return doubleToLongBinding(a, Math::round);
     }
 
     /**
@@ -1266,7 +1677,7 @@ public class MathBindings {
      *          {@code int} value.
      */
     public static IntegerBinding round(final ObservableFloatValue a) {
-        return createIntegerBinding(() -> Math.round(a.get()), a);
+        return doubleToIntegerBinding(a, value -> Math.round((float) value));
     }
 
     /**
@@ -1277,7 +1688,7 @@ public class MathBindings {
      * @return {@code d} &times; 2<sup>{@code scaleFactor}</sup>
      */
     public static DoubleBinding scalb(final ObservableDoubleValue d, final ObservableIntegerValue scaleFactor) {
-        return createDoubleBinding(()->Math.scalb(d.get(), scaleFactor.get()), d, scaleFactor);
+        return doubleBinding(d, scaleFactor, (first, second) -> Math.scalb(first, (int) second));
     }
 
     /**
@@ -1288,7 +1699,7 @@ public class MathBindings {
      * @return {@code d} &times; 2<sup>{@code scaleFactor}</sup>
      */
     public static DoubleBinding scalb(final double d, final ObservableIntegerValue scaleFactor) {
-        return createDoubleBinding(()->Math.scalb(d, scaleFactor.get()), scaleFactor);
+        return doubleBinding(scaleFactor, value -> Math.scalb(d, (int) value));
     }
 
     /**
@@ -1299,7 +1710,7 @@ public class MathBindings {
      * @return {@code d} &times; 2<sup>{@code scaleFactor}</sup>
      */
     public static DoubleBinding scalb(final ObservableDoubleValue d, final int scaleFactor) {
-        return createDoubleBinding(()->Math.scalb(d.get(), scaleFactor), d);
+        return doubleBinding(d, value -> Math.scalb(value, scaleFactor));
     }
 
 
@@ -1311,7 +1722,7 @@ public class MathBindings {
      * @return {@code f} &times; 2<sup>{@code scaleFactor}</sup>
      */
     public static FloatBinding scalb(final ObservableFloatValue f, final ObservableIntegerValue scaleFactor) {
-        return createFloatBinding(()->Math.scalb(f.get(), scaleFactor.get()),f, scaleFactor);
+        return floatBinding(f, scaleFactor, (first, second) -> Math.scalb((float) first, (int) second));
     }
 
     /**
@@ -1322,7 +1733,7 @@ public class MathBindings {
      * @return {@code f} &times; 2<sup>{@code scaleFactor}</sup>
      */
     public static FloatBinding scalb(final float f, final ObservableIntegerValue scaleFactor) {
-        return createFloatBinding(()->Math.scalb(f, scaleFactor.get()), scaleFactor);
+        return floatBinding(scaleFactor, value -> Math.scalb(f, (int) value));
     }
 
     /**
@@ -1333,7 +1744,7 @@ public class MathBindings {
      * @return {@code f} &times; 2<sup>{@code scaleFactor}</sup>
      */
     public static FloatBinding scalb(final ObservableFloatValue f, final int scaleFactor) {
-        return createFloatBinding(()->Math.scalb(f.get(), scaleFactor),f);
+        return floatBinding(f, value -> Math.scalb((float) value, scaleFactor));
     }
 
 
@@ -1344,7 +1755,7 @@ public class MathBindings {
      * @return the signum function of the argument
      */
     public static DoubleBinding signum(final ObservableDoubleValue d) {
-        return createDoubleBinding(() -> Math.signum(d.get()), d);
+        return doubleBinding(d, Math::signum);
     }
 
     /**
@@ -1354,7 +1765,7 @@ public class MathBindings {
      * @return the signum function of the argument
      */
     public static FloatBinding signum(final ObservableFloatValue f) {
-        return createFloatBinding(() -> Math.signum(f.get()), f);
+        return floatBinding(f, value -> Math.signum((float) value));
     }
 
 
@@ -1365,7 +1776,7 @@ public class MathBindings {
      * @return  the sine of the argument.
      */
     public static DoubleBinding sin(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.sin(a.get()), a);
+        return doubleBinding(a, Math::sin);
     }
 
 
@@ -1376,7 +1787,7 @@ public class MathBindings {
      * @return  The hyperbolic sine of {@code x}.
      */
     public static DoubleBinding sinh(final ObservableDoubleValue x) {
-        return createDoubleBinding(() -> Math.sinh(x.get()), x);
+        return doubleBinding(x, Math::sinh);
     }
 
 
@@ -1388,7 +1799,7 @@ public class MathBindings {
      *          If the argument is NaN or less than zero, the result is NaN.
      */
     public static DoubleBinding sqrt(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.sqrt(a.get()), a);
+        return doubleBinding(a, Math::sqrt);
     }
 
 
@@ -1401,7 +1812,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding subtractExact(final ObservableIntegerValue x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.subtractExact(x.get(), y.get()), x, y);
+        return integerBinding(x, y, Math::subtractExact);
     }
 
     /**
@@ -1413,7 +1824,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding subtractExact(final int x, final ObservableIntegerValue y) {
-        return createIntegerBinding(() -> Math.subtractExact(x, y.get()), y);
+        return integerBinding(y, value -> Math.subtractExact(x, value));
     }
 
     /**
@@ -1425,7 +1836,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows an int
      */
     public static IntegerBinding subtractExact(final ObservableIntegerValue x, final int y) {
-        return createIntegerBinding(() -> Math.subtractExact(x.get(), y), x);
+        return integerBinding(x, value -> Math.subtractExact(value, y));
     }
 
 
@@ -1438,7 +1849,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding subtractExact(final ObservableLongValue x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.subtractExact(x.get(), y.get()), x, y);
+        return longBinding(x, y, Math::subtractExact);
     }
 
     /**
@@ -1450,7 +1861,7 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding subtractExact(final long x, final ObservableLongValue y) {
-        return createLongBinding(() -> Math.subtractExact(x, y.get()), y);
+        return longBinding(y, value -> Math.subtractExact(x, value));
     }
 
     /**
@@ -1462,7 +1873,79 @@ public class MathBindings {
      * @throws ArithmeticException if the result overflows a long
      */
     public static LongBinding subtractExact(final ObservableLongValue x, final long y) {
-        return createLongBinding(() -> Math.subtractExact(x.get(), y), x);
+        return longBinding(x, value -> Math.subtractExact(value, y));
+    }
+
+    /**
+     * Saturating variant of {@link #subtractExact(ObservableIntegerValue, ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding subtractSaturated(final ObservableIntegerValue x, final ObservableIntegerValue y) {
+        return new SaturatedIntegerBinding(() -> (long) x.get() - y.get(), x, y);
+    }
+
+    /**
+     * Saturating variant of {@link #subtractExact(int, ObservableIntegerValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding subtractSaturated(final int x, final ObservableIntegerValue y) {
+        return new SaturatedIntegerBinding(() -> (long) x - y.get(), y);
+    }
+
+    /**
+     * Saturating variant of {@link #subtractExact(ObservableIntegerValue, int)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding subtractSaturated(final ObservableIntegerValue x, final int y) {
+        return new SaturatedIntegerBinding(() -> (long) x.get() - y, x);
+    }
+
+    /**
+     * Saturating variant of {@link #subtractExact(ObservableLongValue, ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding subtractSaturated(final ObservableLongValue x, final ObservableLongValue y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.subtract(x.get(), y.get()), () -> SaturatedArithmetic.subtractOverflows(x.get(), y.get()), x, y);
+    }
+
+    /**
+     * Saturating variant of {@link #subtractExact(long, ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding subtractSaturated(final long x, final ObservableLongValue y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.subtract(x, y.get()), () -> SaturatedArithmetic.subtractOverflows(x, y.get()), y);
+    }
+
+    /**
+     * Saturating variant of {@link #subtractExact(ObservableLongValue, long)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of long, see {@link SaturatedLongBinding}.
+     *
+     * @param x the first value
+     * @param y the second value
+     * @return the saturated result
+     */
+    public static SaturatedLongBinding subtractSaturated(final ObservableLongValue x, final long y) {
+        return new SaturatedLongBinding(() -> SaturatedArithmetic.subtract(x.get(), y), () -> SaturatedArithmetic.subtractOverflows(x.get(), y), x);
     }
 
 
@@ -1473,7 +1956,7 @@ public class MathBindings {
      * @return  the tangent of the argument.
      */
     public static DoubleBinding tan(final ObservableDoubleValue a) {
-        return createDoubleBinding(() -> Math.tan(a.get()), a);
+        return doubleBinding(a, Math::tan);
     }
 
 
@@ -1484,7 +1967,7 @@ public class MathBindings {
      * @return  The hyperbolic tangent of {@code x}.
      */
     public static DoubleBinding tanh(final ObservableDoubleValue x) {
-        return createDoubleBinding(() -> Math.tanh(x.get()), x);
+        return doubleBinding(x, Math::tanh);
     }
 
 
@@ -1496,7 +1979,7 @@ public class MathBindings {
      *          in degrees.
      */
     public static DoubleBinding toDegrees(final ObservableDoubleValue angrad) {
-        return createDoubleBinding(() -> Math.toDegrees(angrad.get()), angrad);
+        return doubleBinding(angrad, Math::toDegrees);
     }
 
 
@@ -1508,7 +1991,18 @@ public class MathBindings {
      * @throws ArithmeticException if the {@code argument} overflows an int
      */
     public static IntegerBinding toIntExact(final ObservableLongValue value) {
-        return createIntegerBinding(() -> Math.toIntExact(value.get()), value);
+        return longToIntegerBinding(value, Math::toIntExact);
+    }
+
+    /**
+     * Saturating variant of {@link #toIntExact(ObservableLongValue)}. Instead of throwing an {@link ArithmeticException}
+     * the result is clamped to the range of int, see {@link SaturatedIntegerBinding}.
+     *
+     * @param value the long value
+     * @return the saturated result
+     */
+    public static SaturatedIntegerBinding toIntSaturated(final ObservableLongValue value) {
+        return new SaturatedIntegerBinding(value::get, value);
     }
 
 
@@ -1520,7 +2014,7 @@ public class MathBindings {
      *          in radians.
      */
     public static DoubleBinding toRadians(final ObservableDoubleValue angdeg) {
-        return createDoubleBinding(() -> Math.toRadians(angdeg.get()), angdeg);
+        return doubleBinding(angdeg, Math::toRadians);
     }
 
 
@@ -1531,7 +2025,7 @@ public class MathBindings {
      * @return the size of an ulp of the argument
      */
     public static DoubleBinding ulp(final ObservableDoubleValue d) {
-        return createDoubleBinding(() -> Math.ulp(d.get()), d);
+        return doubleBinding(d, Math::ulp);
     }
 
     /**
@@ -1541,7 +2035,7 @@ public class MathBindings {
      * @return the size of an ulp of the argument
      */
     public static FloatBinding ulp(final ObservableFloatValue f) {
-        return createFloatBinding(() -> Math.ulp(f.get()), f);
+        return floatBinding(f, value -> Math.ulp((float) value));
     }
 
 }
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.Observable;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.value.ObservableNumberValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A builder for arithmetic expressions over observable numbers that are evaluated by a single binding.
+ *
+ * Composing the bindings of {@link MathBindings} creates a binding for every intermediate result. For example
+ * `sqrt(x² + y²)` needs four bindings that all register listeners and are invalidated one after another.
+ * An expression instead only describes the calculation:
+ *
+ * ```java
+ * DoubleBinding length = MathExpression.of(x).pow(2).add(MathExpression.of(y).pow(2)).sqrt().toBinding();
+ * ```
+ *
+ * The resulting binding evaluates the whole expression in its `computeValue()` and only depends on the
+ * observable numbers the expression was built from. Parts of an expression that only consist of constants
+ * are evaluated once when the expression is built.
+ *
+ * Expressions are immutable, so a partial expression can be reused in several other expressions.
+ * All values are computed as `double`.
+ */
+public abstract class MathExpression {
+
+    private MathExpression() {
+    }
+
+    /**
+     * @param value the observable number.
+     * @return an expression with the current value of the given observable number.
+     */
+    public static MathExpression of(final ObservableNumberValue value) {
+        return new Variable(value);
+    }
+
+    /**
+     * @param value the constant value.
+     * @return an expression with the given constant value.
+     */
+    public static MathExpression constant(final double value) {
+        return new Constant(value);
+    }
+
+    /**
+     * Creates a binding that evaluates this expression.
+     * The binding depends on all observable numbers of the expression and nothing else.
+     *
+     * @return the binding.
+     */
+    public DoubleBinding toBinding() {
+        final Set<ObservableNumberValue> dependencies = new LinkedHashSet<>();
+        collectDependencies(dependencies);
+        return new ExpressionBinding(this, dependencies.toArray(new Observable[dependencies.size()]));
+    }
+
+    /**
+     * Applies the function to the value of this expression.
+     *
+     * @param function the function.
+     * @return the new expression.
+     */
+    public MathExpression map(final DoubleUnaryOperator function) {
+        if (this instanceof Constant) {
+            return new Constant(function.applyAsDouble(evaluate()));
+        }
+        return new Unary(this, function);
+    }
+
+    /**
+     * Combines the values of this and the other expression with the function.
+     *
+     * @param other    the other expression that is passed as the second argument of the function.
+     * @param function the function.
+     * @return the new expression.
+     */
+    public MathExpression combine(final MathExpression other, final DoubleBinaryOperator function) {
+        if (this instanceof Constant && other instanceof Constant) {
+            return new Constant(function.applyAsDouble(evaluate(), other.evaluate()));
+        }
+        return new Binary(this, other, function);
+    }
+
+    /**
+     * @return an expression of the sum of this and the other value.
+     */
+    public MathExpression add(final MathExpression other) {
+        return combine(other, (a, b) -> a + b);
+    }
+
+    /**
+     * @return an expression of the sum of this and the other value.
+     */
+    public MathExpression add(final double other) {
+        return add(constant(other));
+    }
+
+    /**
+     * @return an expression of the difference of this and the other value.
+     */
+    public MathExpression subtract(final MathExpression other) {
+        return combine(other, (a, b) -> a - b);
+    }
+
+    /**
+     * @return an expression of the difference of this and the other value.
+     */
+    public MathExpression subtract(final double other) {
+        return subtract(constant(other));
+    }
+
+    /**
+     * @return an expression of the product of this and the other value.
+     */
+    public MathExpression multiply(final MathExpression other) {
+        return combine(other, (a, b) -> a * b);
+    }
+
+    /**
+     * @return an expression of the product of this and the other value.
+     */
+    public MathExpression multiply(final double other) {
+        return multiply(constant(other));
+    }
+
+    /**
+     * @return an expression of the quotient of this and the other value.
+     */
+    public MathExpression divide(final MathExpression other) {
+        return combine(other, (a, b) -> a / b);
+    }
+
+    /**
+     * @return an expression of the quotient of this and the other value.
+     */
+    public MathExpression divide(final double other) {
+        return divide(constant(other));
+    }
+
+    /**
+     * @return an expression of the negated value.
+     */
+    public MathExpression negate() {
+        return map(a -> -a);
+    }
+
+    /**
+     * See {@link Math#pow(double, double)}.
+     */
+    public MathExpression pow(final MathExpression exponent) {
+        return combine(exponent, Math::pow);
+    }
+
+    /**
+     * See {@link Math#pow(double, double)}. The exponent `2` is evaluated as a multiplication.
+     */
+    public MathExpression pow(final double exponent) {
+        if (exponent == 2) {
+            return map(a -> a * a);
+        }
+        return pow(constant(exponent));
+    }
+
+    /**
+     * See {@link Math#hypot(double, double)}.
+     */
+    public MathExpression hypot(final MathExpression other) {
+        return combine(other, Math::hypot);
+    }
+
+    /**
+     * See {@link Math#atan2(double, double)}. This expression is used as `y` coordinate.
+     */
+    public MathExpression atan2(final MathExpression x) {
+        return combine(x, Math::atan2);
+    }
+
+    /**
+     * See {@link Math#min(double, double)}.
+     */
+    public MathExpression min(final MathExpression other) {
+        return combine(other, Math::min);
+    }
+
+    /**
+     * See {@link Math#max(double, double)}.
+     */
+    public MathExpression max(final MathExpression other) {
+        return combine(other, Math::max);
+    }
+
+    /**
+     * See {@link Math#abs(double)}.
+     */
+    public MathExpression abs() {
+        return map(Math::abs);
+    }
+
+    /**
+     * See {@link Math#sqrt(double)}.
+     */
+    public MathExpression sqrt() {
+        return map(Math::sqrt);
+    }
+
+    /**
+     * See {@link Math#cbrt(double)}.
+     */
+    public MathExpression cbrt() {
+        return map(Math::cbrt);
+    }
+
+    /**
+     * See {@link Math#exp(double)}.
+     */
+    public MathExpression exp() {
+        return map(Math::exp);
+    }
+
+    /**
+     * See {@link Math#log(double)}.
+     */
+    public MathExpression log() {
+        return map(Math::log);
+    }
+
+    /**
+     * See {@link Math#log10(double)}.
+     */
+    public MathExpression log10() {
+        return map(Math::log10);
+    }
+
+    /**
+     * See {@link Math#sin(double)}.
+     */
+    public MathExpression sin() {
+        return map(Math::sin);
+    }
+
+    /**
+     * See {@link Math#cos(double)}.
+     */
+    public MathExpression cos() {
+        return map(Math::cos);
+    }
+
+    /**
+     * See {@link Math#tan(double)}.
+     */
+    public MathExpression tan() {
+        return map(Math::tan);
+    }
+
+    /**
+     * See {@link Math#asin(double)}.
+     */
+    public MathExpression asin() {
+        return map(Math::asin);
+    }
+
+    /**
+     * See {@link Math#acos(double)}.
+     */
+    public MathExpression acos() {
+        return map(Math::acos);
+    }
+
+    /**
+     * See {@link Math#atan(double)}.
+     */
+    public MathExpression atan() {
+        return map(Math::atan);
+    }
+
+    /**
+     * See {@link Math#floor(double)}.
+     */
+    public MathExpression floor() {
+        return map(Math::floor);
+    }
+
+    /**
+     * See {@link Math#ceil(double)}.
+     */
+    public MathExpression ceil() {
+        return map(Math::ceil);
+    }
+
+    /**
+     * See {@link Math#toRadians(double)}.
+     */
+    public MathExpression toRadians() {
+        return map(Math::toRadians);
+    }
+
+    /**
+     * See {@link Math#toDegrees(double)}.
+     */
+    public MathExpression toDegrees() {
+        return map(Math::toDegrees);
+    }
+
+    /**
+     * @return the current value of this expression.
+     */
+    abstract double evaluate();
+
+    abstract void collectDependencies(Set<ObservableNumberValue> dependencies);
+
+    private static final class Constant extends MathExpression {
+        private final double value;
+
+        private Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        double evaluate() {
+            return value;
+        }
+
+        @Override
+        void collectDependencies(Set<ObservableNumberValue> dependencies) {
+        }
+    }
+
+    private static final class Variable extends MathExpression {
+        private final ObservableNumberValue value;
+
+        private Variable(ObservableNumberValue value) {
+            this.value = value;
+        }
+
+        @Override
+        double evaluate() {
+            return value.doubleValue();
+        }
+
+        @Override
+        void collectDependencies(Set<ObservableNumberValue> dependencies) {
+            dependencies.add(value);
+        }
+    }
+
+    private static final class Unary extends MathExpression {
+        private final MathExpression operand;
+        private final DoubleUnaryOperator function;
+
+        private Unary(MathExpression operand, DoubleUnaryOperator function) {
+            this.operand = operand;
+            this.function = function;
+        }
+
+        @Override
+        double evaluate() {
+            return function.applyAsDouble(operand.evaluate());
+        }
+
+        @Override
+        void collectDependencies(Set<ObservableNumberValue> dependencies) {
+            operand.collectDependencies(dependencies);
+        }
+    }
+
+    private static final class Binary extends MathExpression {
+        private final MathExpression left;
+        private final MathExpression right;
+        private final DoubleBinaryOperator function;
+
+        private Binary(MathExpression left, MathExpression right, DoubleBinaryOperator function) {
+            this.left = left;
+            this.right = right;
+            this.function = function;
+        }
+
+        @Override
+        double evaluate() {
+            return function.applyAsDouble(left.evaluate(), right.evaluate());
+        }
+
+        @Override
+        void collectDependencies(Set<ObservableNumberValue> dependencies) {
+            left.collectDependencies(dependencies);
+            right.collectDependencies(dependencies);
+        }
+    }
+
+    private static final class ExpressionBinding extends DoubleBinding {
+        private final MathExpression expression;
+        private final Observable[] dependencies;
+        private final BatchingObserver observer;
+
+        private ExpressionBinding(MathExpression expression, Observable[] dependencies) {
+            this.expression = expression;
+            this.dependencies = dependencies;
+
+            observer = new BatchingObserver(this, dependencies);
+        }
+
+        @Override
+        protected double computeValue() {
+            return expression.evaluate();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(dependencies));
+        }
+
+        @Override
+        public void dispose() {
+            observer.dispose();
+        }
+    }
+}
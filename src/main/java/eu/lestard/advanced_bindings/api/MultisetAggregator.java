@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+/**
+ * Combines another aggregator of a bag of values with a {@link DoubleMultiset} of the values, so that for example
+ * the sum or the moments as well as the minimum and maximum are all kept up to date by a single aggregator.
+ *
+ * @param <A> the type of the combined aggregator.
+ */
+final class MultisetAggregator<A extends NumberAggregator> implements NumberAggregator {
+
+    private final A aggregator;
+    private final DoubleMultiset values = new DoubleMultiset();
+
+    MultisetAggregator(A aggregator) {
+        this.aggregator = aggregator;
+    }
+
+    @Override
+    public void add(double value) {
+        aggregator.add(value);
+        values.add(value);
+    }
+
+    @Override
+    public void remove(double value) {
+        aggregator.remove(value);
+        values.remove(value);
+    }
+
+    @Override
+    public void clear() {
+        aggregator.clear();
+        values.clear();
+    }
+
+    @Override
+    public void addAll(double[] values) {
+        aggregator.addAll(values);
+        this.values.addAll(values);
+    }
+
+    A aggregator() {
+        return aggregator;
+    }
+
+    DoubleMultiset values() {
+        return values;
+    }
+}
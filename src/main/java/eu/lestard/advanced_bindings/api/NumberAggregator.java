@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+/**
+ * An aggregate over a bag of numbers that can be maintained incrementally.
+ *
+ * Implementations receive every value that is added to or removed from the underlying collection
+ * and keep whatever state they need to answer their aggregate without looking at the whole collection again.
+ */
+interface NumberAggregator {
+
+    /**
+     * Adds a value to the aggregate.
+     *
+     * @param value the added value.
+     */
+    void add(double value);
+
+    /**
+     * Removes a value that was previously added to the aggregate.
+     *
+     * @param value the removed value.
+     */
+    void remove(double value);
+
+    /**
+     * Removes all values from the aggregate.
+     */
+    void clear();
+
+    /**
+     * Adds all values to the aggregate. This is used for full recomputations over large collections,
+     * so implementations may aggregate the values in parallel with {@link ParallelAggregation}.
+     *
+     * @param values the added values.
+     */
+    default void addAll(double[] values) {
+        for (double value : values) {
+            add(value);
+        }
+    }
+}
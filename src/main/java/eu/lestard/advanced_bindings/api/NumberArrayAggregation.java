@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.DoubleBinding;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableArray;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Keeps a {@link NumberAggregator} in sync with an observable primitive array.
+ *
+ * An {@link ArrayChangeListener} is only told which range of the array has changed but not the previous values
+ * of this range. Therefore the aggregation keeps an unboxed copy of the array. On every change the previous values
+ * of the changed range are removed from the aggregator and the new values are added.
+ *
+ * Like {@link NumberListAggregation} the aggregation is registered at the array with a weak listener and is kept
+ * alive by the bindings created with {@link #createBinding(DoubleSupplier)}.
+ *
+ * @param <T> the type of the observable array.
+ * @param <A> the type of the aggregator.
+ */
+abstract class NumberArrayAggregation<T extends ObservableArray<T>, A extends NumberAggregator> implements ArrayChangeListener<T> {
+
+    private final T array;
+    private final A aggregator;
+
+    private final WeakArrayChangeListener<T> weakListener = new WeakArrayChangeListener<>(this);
+    private final List<AggregateBinding> bindings = new ArrayList<>(1);
+
+    private int size;
+
+    static <A extends NumberAggregator> NumberArrayAggregation<ObservableIntegerArray, A> of(ObservableIntegerArray array, A aggregator) {
+        return new IntegerArrayAggregation<>(array, aggregator);
+    }
+
+    static <A extends NumberAggregator> NumberArrayAggregation<ObservableFloatArray, A> of(ObservableFloatArray array, A aggregator) {
+        return new FloatArrayAggregation<>(array, aggregator);
+    }
+
+    private NumberArrayAggregation(T array, A aggregator) {
+        this.array = array;
+        this.aggregator = aggregator;
+    }
+
+    /**
+     * Has to be called by the subclasses after their copy of the array has been initialized.
+     */
+    final void initialize() {
+        onChanged(array, true, 0, array.size());
+        array.addListener(weakListener);
+    }
+
+    A getAggregator() {
+        return aggregator;
+    }
+
+    /**
+     * Clears the aggregator and adds all values of the array again.
+     */
+    void rebuild() {
+        aggregator.clear();
+
+        if (ParallelAggregation.isParallel(size)) {
+            final double[] snapshot = new double[size];
+            for (int i = 0; i < size; i++) {
+                snapshot[i] = copiedValue(i);
+            }
+            aggregator.addAll(snapshot);
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            aggregator.add(copiedValue(i));
+        }
+    }
+
+    /**
+     * Creates a binding whose value is computed from the state of the aggregator.
+     * The binding is invalidated after every change of the array has been applied to the aggregator.
+     *
+     * @param value computes the value of the binding from the aggregator.
+     * @return the binding.
+     */
+    DoubleBinding createBinding(DoubleSupplier value) {
+        final AggregateBinding binding = new AggregateBinding(value);
+        bindings.add(binding);
+        return binding;
+    }
+
+    @Override
+    public final void onChanged(T array, boolean sizeChanged, int from, int to) {
+        final int oldSize = size;
+        final int newSize = array.size();
+
+        // when the size has changed all values behind "from" are affected
+        final int removedTo = sizeChanged ? oldSize : to;
+        final int addedTo = sizeChanged ? newSize : to;
+
+        if (from == 0 && removedTo == oldSize && ParallelAggregation.isParallel(newSize)) {
+            // all values have been replaced
+            copy(array, 0, newSize, newSize);
+            size = newSize;
+            rebuild();
+            invalidateBindings();
+            return;
+        }
+
+        for (int i = from; i < removedTo; i++) {
+            aggregator.remove(copiedValue(i));
+        }
+
+        copy(array, from, addedTo, newSize);
+        size = newSize;
+
+        for (int i = from; i < addedTo; i++) {
+            aggregator.add(copiedValue(i));
+        }
+
+        invalidateBindings();
+    }
+
+    private void invalidateBindings() {
+        for (AggregateBinding binding : bindings) {
+            AdvancedBindings.invalidate(binding);
+        }
+    }
+
+    /**
+     * @return the value at the given index of the copy of the array.
+     */
+    abstract double copiedValue(int index);
+
+    /**
+     * Copies the given range of the array. The copy has to be able to hold at least the given number of values.
+     */
+    abstract void copy(T array, int from, int to, int newSize);
+
+    private static int[] ensureCapacity(int[] values, int size) {
+        return values.length >= size ? values : Arrays.copyOf(values, Math.max(size, values.length + (values.length >> 1)));
+    }
+
+    private static float[] ensureCapacity(float[] values, int size) {
+        return values.length >= size ? values : Arrays.copyOf(values, Math.max(size, values.length + (values.length >> 1)));
+    }
+
+    private final class AggregateBinding extends DoubleBinding {
+
+        private final DoubleSupplier value;
+
+        private AggregateBinding(DoubleSupplier value) {
+            this.value = value;
+        }
+
+        @Override
+        protected double computeValue() {
+            return value.getAsDouble();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return FXCollections.singletonObservableList(array);
+        }
+
+        @Override
+        public void dispose() {
+            bindings.remove(this);
+
+            if (bindings.isEmpty()) {
+                array.removeListener(weakListener);
+            }
+        }
+    }
+
+    private static final class IntegerArrayAggregation<A extends NumberAggregator> extends NumberArrayAggregation<ObservableIntegerArray, A> {
+
+        private int[] values = new int[0];
+
+        private IntegerArrayAggregation(ObservableIntegerArray array, A aggregator) {
+            super(array, aggregator);
+            initialize();
+        }
+
+        @Override
+        double copiedValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        void copy(ObservableIntegerArray array, int from, int to, int newSize) {
+            values = ensureCapacity(values, newSize);
+            array.copyTo(from, values, from, to - from);
+        }
+    }
+
+    private static final class FloatArrayAggregation<A extends NumberAggregator> extends NumberArrayAggregation<ObservableFloatArray, A> {
+
+        private float[] values = new float[0];
+
+        private FloatArrayAggregation(ObservableFloatArray array, A aggregator) {
+            super(array, aggregator);
+            initialize();
+        }
+
+        @Override
+        double copiedValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        void copy(ObservableFloatArray array, int from, int to, int newSize) {
+            values = ensureCapacity(values, newSize);
+            array.copyTo(from, values, from, to - from);
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class NumberBindings {
      * @return the boolean binding.
      */
     public static BooleanBinding isNaN(final ObservableDoubleValue observableValue) {
-        return Bindings.createBooleanBinding(() -> Double.isNaN(observableValue.get()), observableValue);
+        return BatchingBindings.createBooleanBinding(() -> Double.isNaN(observableValue.get()), observableValue);
     }
 
     /**
@@ -47,7 +47,7 @@ public class NumberBindings {
      * @return the boolean binding.
      */
     public static BooleanBinding isInfinite(final ObservableDoubleValue observableValue) {
-        return Bindings.createBooleanBinding(() -> Double.isInfinite(observableValue.get()), observableValue);
+        return BatchingBindings.createBooleanBinding(() -> Double.isInfinite(observableValue.get()), observableValue);
     }
 
 
@@ -108,7 +108,7 @@ public class NumberBindings {
      * @return the resulting number binding
      */
     public static NumberBinding divideSafe(ObservableValue<Number> dividend, ObservableValue<Number> divisor, ObservableValue<Number> defaultValue) {
-        return Bindings.createDoubleBinding(() -> {
+        return BatchingBindings.createDoubleBinding(() -> {
 
             if (divisor.getValue().doubleValue() == 0) {
                 return defaultValue.getValue().doubleValue();
@@ -219,7 +219,7 @@ public class NumberBindings {
      * @return the resulting integer binding
      */
     public static IntegerBinding divideSafe(ObservableIntegerValue dividend, ObservableIntegerValue divisor, ObservableIntegerValue defaultValue) {
-        return Bindings.createIntegerBinding(() -> {
+        return BatchingBindings.createIntegerBinding(() -> {
 
             if (divisor.intValue() == 0) {
                 return defaultValue.get();
@@ -261,7 +261,7 @@ public class NumberBindings {
      * @return the IntegerBinding that holds the value of the source observable.
      */
     public static IntegerBinding asInteger(final ObservableValue<Number> source) {
-        return Bindings.createIntegerBinding(()-> nonNullNumber(source.getValue()).intValue(),source);
+        return BatchingBindings.createIntegerBinding(()-> nonNullNumber(source.getValue()).intValue(),source);
     }
 
     /**
@@ -279,7 +279,7 @@ public class NumberBindings {
      * @return the DoubleBinding that holds the value of the source observable.
      */
     public static DoubleBinding asDouble(final ObservableValue<Number> source) {
-        return Bindings.createDoubleBinding(() -> nonNullNumber(source.getValue()).doubleValue(), source);
+        return BatchingBindings.createDoubleBinding(() -> nonNullNumber(source.getValue()).doubleValue(), source);
     }
 
     /**
@@ -297,7 +297,7 @@ public class NumberBindings {
      * @return the FloatBinding that holds the value of the source observable.
      */
     public static FloatBinding asFloat(final ObservableValue<Number> source) {
-        return Bindings.createFloatBinding(() -> nonNullNumber(source.getValue()).floatValue(), source);
+        return BatchingBindings.createFloatBinding(() -> nonNullNumber(source.getValue()).floatValue(), source);
     }
 
     /**
@@ -315,7 +315,7 @@ public class NumberBindings {
      * @return the LongBinding that holds the value of the source observable.
      */
     public static LongBinding asLong(final ObservableValue<Number> source) {
-        return Bindings.createLongBinding(() -> nonNullNumber(source.getValue()).longValue(), source);
+        return BatchingBindings.createLongBinding(() -> nonNullNumber(source.getValue()).longValue(), source);
     }
 
 
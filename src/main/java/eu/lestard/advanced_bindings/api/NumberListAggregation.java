@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.Observable;
+import javafx.beans.binding.DoubleBinding;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Keeps a {@link NumberAggregator} in sync with an observable list of numbers.
+ *
+ * Instead of rescanning the list on every change only the removed and added elements of each
+ * {@link javafx.collections.ListChangeListener.Change} are passed to the aggregator. The aggregation keeps the
+ * last seen value of every element, because updates (reported by lists with an extractor) don't contain the
+ * previous values of the elements. An update of one element is therefore one removal and one addition.
+ * When a change replaces all elements of the list at once (e.g. with `setAll`) the aggregator is cleared instead,
+ * and if more elements than the {@link CollectionBindings#setParallelThreshold(int) parallel threshold}
+ * are added at once they are aggregated in parallel.
+ *
+ * `null` elements are skipped, so they don't break the aggregation of the other elements.
+ *
+ * The aggregation is registered at the list with a weak listener and is kept alive by the bindings
+ * created with {@link #createBinding(DoubleSupplier)}, just like the standard JavaFX bindings.
+ *
+ * @param <A> the type of the aggregator.
+ */
+final class NumberListAggregation<A extends NumberAggregator> implements ListChangeListener<Number> {
+
+    private final ObservableList<? extends Number> numbers;
+    private final A aggregator;
+
+    private final WeakListChangeListener<Number> weakListener = new WeakListChangeListener<>(this);
+    private final List<AggregateBinding> bindings = new ArrayList<>(1);
+
+    // the last seen values of the elements, present is false for null elements
+    private double[] values = new double[16];
+    private boolean[] present = new boolean[16];
+    private int size;
+
+    NumberListAggregation(ObservableList<? extends Number> numbers, A aggregator) {
+        this.numbers = numbers;
+        this.aggregator = aggregator;
+
+        insert(0, numbers);
+        numbers.addListener(weakListener);
+    }
+
+    A getAggregator() {
+        return aggregator;
+    }
+
+    /**
+     * Creates a binding whose value is computed from the state of the aggregator.
+     * The binding is invalidated after every change of the list has been applied to the aggregator.
+     *
+     * @param value        computes the value of the binding from the aggregator.
+     * @param dependencies further observables the value of the binding depends on.
+     * @return the binding.
+     */
+    DoubleBinding createBinding(DoubleSupplier value, Observable... dependencies) {
+        final AggregateBinding binding = new AggregateBinding(value, dependencies);
+        bindings.add(binding);
+        return binding;
+    }
+
+    @Override
+    public void onChanged(Change<? extends Number> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change.getFrom(), change.getTo());
+            } else {
+                remove(change.getFrom(), change.getRemovedSize());
+                insert(change.getFrom(), change.getAddedSubList());
+            }
+        }
+
+        for (AggregateBinding binding : bindings) {
+            AdvancedBindings.invalidate(binding);
+        }
+    }
+
+    private void permute(Change<? extends Number> change) {
+        final int from = change.getFrom();
+        final int length = change.getTo() - from;
+        final double[] oldValues = Arrays.copyOfRange(values, from, from + length);
+        final boolean[] oldPresent = Arrays.copyOfRange(present, from, from + length);
+
+        for (int i = 0; i < length; i++) {
+            final int target = change.getPermutation(from + i);
+            values[target] = oldValues[i];
+            present[target] = oldPresent[i];
+        }
+    }
+
+    private void update(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (present[i]) {
+                aggregator.remove(values[i]);
+            }
+            set(i, numbers.get(i));
+            if (present[i]) {
+                aggregator.add(values[i]);
+            }
+        }
+    }
+
+    private void remove(int from, int count) {
+        if (count == 0) {
+            return;
+        }
+
+        if (count == size) {
+            aggregator.clear();
+        } else {
+            for (int i = from; i < from + count; i++) {
+                if (present[i]) {
+                    aggregator.remove(values[i]);
+                }
+            }
+        }
+
+        System.arraycopy(values, from + count, values, from, size - from - count);
+        System.arraycopy(present, from + count, present, from, size - from - count);
+        size -= count;
+    }
+
+    private void insert(int from, List<? extends Number> added) {
+        final int count = added.size();
+        if (count == 0) {
+            return;
+        }
+
+        if (size + count > values.length) {
+            final int capacity = Math.max(size + count, values.length * 2);
+            values = Arrays.copyOf(values, capacity);
+            present = Arrays.copyOf(present, capacity);
+        }
+        System.arraycopy(values, from, values, from + count, size - from);
+        System.arraycopy(present, from, present, from + count, size - from);
+        size += count;
+
+        int presentCount = 0;
+        for (int i = 0; i < count; i++) {
+            set(from + i, added.get(i));
+            if (present[from + i]) {
+                presentCount++;
+            }
+        }
+
+        if (ParallelAggregation.isParallel(presentCount)) {
+            final double[] snapshot = new double[presentCount];
+            int index = 0;
+            for (int i = from; i < from + count; i++) {
+                if (present[i]) {
+                    snapshot[index++] = values[i];
+                }
+            }
+            aggregator.addAll(snapshot);
+            return;
+        }
+
+        for (int i = from; i < from + count; i++) {
+            if (present[i]) {
+                aggregator.add(values[i]);
+            }
+        }
+    }
+
+    private void set(int index, Number number) {
+        present[index] = number != null;
+        values[index] = number == null ? 0 : number.doubleValue();
+    }
+
+    private final class AggregateBinding extends DoubleBinding {
+
+        private final DoubleSupplier value;
+        private final Observable[] dependencies;
+        private final BatchingObserver observer;
+
+        private AggregateBinding(DoubleSupplier value, Observable[] dependencies) {
+            this.value = value;
+            this.dependencies = dependencies;
+
+            observer = new BatchingObserver(this, dependencies);
+        }
+
+        @Override
+        protected double computeValue() {
+            return value.getAsDouble();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            if (dependencies.length == 0) {
+                return FXCollections.singletonObservableList(numbers);
+            }
+
+            final ObservableList<Observable> result = FXCollections.observableArrayList();
+            result.add(numbers);
+            result.addAll(dependencies);
+            return FXCollections.unmodifiableObservableList(result);
+        }
+
+        @Override
+        public void dispose() {
+            observer.dispose();
+            bindings.remove(this);
+
+            if (bindings.isEmpty()) {
+                numbers.removeListener(weakListener);
+            }
+        }
+    }
+}
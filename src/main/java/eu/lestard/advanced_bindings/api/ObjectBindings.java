@@ -21,10 +21,10 @@
  */
 package eu.lestard.advanced_bindings.api;
 
-import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.value.ObservableValue;
 
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 public class ObjectBindings {
@@ -105,7 +105,7 @@ public class ObjectBindings {
      * @return the created binding.
      */
     public static <S, R> ObjectBinding<R> map(ObservableValue<S> source, Function<? super S, ? extends R> function, R defaultValue){
-        return Bindings.createObjectBinding(()->{
+        return BatchingBindings.createObjectBinding(()->{
             S sourceValue = source.getValue();
 
             if(sourceValue == null){
@@ -116,6 +116,76 @@ public class ObjectBindings {
         }, source);
     }
 
+    /**
+     * An asynchronous variant of {@link #map(ObservableValue, Function)} that calls the function on the
+     * {@link BindingExecutors#getDefaultExecutor() default executor}.
+     * See {@link #mapAsync(ObservableValue, Function, Executor)} for details.
+     *
+     * @param source the observable value that is the source for this binding.
+     * @param function a function that maps the value of the source to the target binding.
+     * @param <S> the generic type of the source observable.
+     * @param <R> the generic type of the resulting binding.
+     * @return the created binding.
+     */
+    public static <S, R> AsyncBinding<R> mapAsync(ObservableValue<S> source, Function<? super S, ? extends R> function) {
+        return mapAsync(source, function, BindingExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * An asynchronous variant of {@link #map(ObservableValue, Function)} for functions that take too long to be
+     * computed on the JavaFX application thread, for example because they do I/O.
+     *
+     * When the source changes its value is passed to the function on the given executor.
+     * The binding keeps its previous value until the result is available. A computation for an outdated value
+     * of the source is cancelled when the source changes again. See {@link AsyncBinding} for details.
+     *
+     * Like {@link #map(ObservableValue, Function)} the binding is null safe: when the source has a value of `null`
+     * the result is `null` and the function isn't called.
+     *
+     * ```java
+     * ObjectProperty<Path> file = ...
+     *
+     * AsyncBinding<Image> thumbnail = ObjectBindings.mapAsync(file, this::loadThumbnail, executor);
+     * ```
+     *
+     * @param source the observable value that is the source for this binding.
+     * @param function a function that maps the value of the source to the target binding. It is called on the executor.
+     * @param executor the executor that calls the function.
+     * @param <S> the generic type of the source observable.
+     * @param <R> the generic type of the resulting binding.
+     * @return the created binding.
+     */
+    public static <S, R> AsyncBinding<R> mapAsync(ObservableValue<S> source, Function<? super S, ? extends R> function, Executor executor) {
+        return mapAsync(source, function, null, executor);
+    }
+
+    /**
+     * An asynchronous variant of {@link #map(ObservableValue, Function, Object)}.
+     *
+     * The default value is used when the source has a value of `null` and as value of the binding until
+     * the first computation has finished.
+     * See {@link #mapAsync(ObservableValue, Function, Executor)} for details.
+     *
+     * @param source the observable value that is the source for this binding.
+     * @param function a function that maps the value of the source to the target binding. It is called on the executor.
+     * @param defaultValue the default value that is used when the source observable has a value of `null`.
+     * @param executor the executor that calls the function.
+     * @param <S> the generic type of the source observable.
+     * @param <R> the generic type of the resulting binding.
+     * @return the created binding.
+     */
+    public static <S, R> AsyncBinding<R> mapAsync(ObservableValue<S> source, Function<? super S, ? extends R> function, R defaultValue, Executor executor) {
+        return new AsyncBinding<R>(defaultValue, () -> {
+            final S sourceValue = source.getValue();
+
+            if (sourceValue == null) {
+                return () -> defaultValue;
+            } else {
+                return () -> function.apply(sourceValue);
+            }
+        }, executor, source);
+    }
+
     /**
      * Creates a binding that contains the same value as the source observable
      * but casted to a type that is higher in class hierarchy.
@@ -168,6 +238,6 @@ public class ObjectBindings {
      * @return an ObjectBinding that will contain the same value of the source but casted to another type.
      */
     public static <T, S extends T> ObjectBinding<T> cast(final ObservableValue<S> source) {
-        return Bindings.createObjectBinding(source::getValue, source);
+        return BatchingBindings.createObjectBinding(source::getValue, source);
     }
 }
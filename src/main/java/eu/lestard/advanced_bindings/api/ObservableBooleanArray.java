@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArrayBase;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An observable array of boolean values that stores each value in a single bit.
+ *
+ * JavaFX has no observable array for boolean values. Instead of many `BooleanProperty`s, which need
+ * an object and a listener each, this array can hold tens of thousands of flags in a `long[]`.
+ * Like the other observable arrays it reports changes to {@link ArrayChangeListener}s with the changed range.
+ * Changes that don't modify any value aren't reported.
+ *
+ * The number of `true` values is kept up to date on every change. It is counted with {@link Long#bitCount(long)}
+ * for whole words when a range is changed, so {@link #cardinality()} is available in constant time.
+ * {@link LogicBindings#and(ObservableBooleanArray)}, {@link LogicBindings#or(ObservableBooleanArray)} and
+ * {@link LogicBindings#countTrue(ObservableBooleanArray)} are based on this.
+ *
+ * ```java
+ * ObservableBooleanArray selection = new ObservableBooleanArray(10_000);
+ *
+ * IntegerBinding selectedCount = LogicBindings.countTrue(selection);
+ *
+ * selection.set(100, 200, true);
+ * selection.flip(150);
+ *
+ * selectedCount.get(); // 99
+ * ```
+ */
+public final class ObservableBooleanArray extends ObservableArrayBase<ObservableBooleanArray> {
+
+    private static final long ALL_BITS = -1L;
+
+    /**
+     * The bits behind the size are always `0`.
+     */
+    private long[] words;
+    private int size;
+    private int cardinality;
+
+    /**
+     * Creates an empty array.
+     */
+    public ObservableBooleanArray() {
+        this(0);
+    }
+
+    /**
+     * Creates an array of the given size whose values are all `false`.
+     *
+     * @param size the initial size.
+     */
+    public ObservableBooleanArray(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size has to be non-negative but was " + size);
+        }
+        this.words = new long[wordCount(size)];
+        this.size = size;
+    }
+
+    /**
+     * @param index the index of the value.
+     * @return the value at the given index.
+     * @throws ArrayIndexOutOfBoundsException if the index is outside of the array.
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words[index >> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the value at the given index.
+     *
+     * @param index the index of the value.
+     * @param value the new value.
+     * @throws ArrayIndexOutOfBoundsException if the index is outside of the array.
+     */
+    public void set(int index, boolean value) {
+        if (get(index) != value) {
+            flip(index);
+        }
+    }
+
+    /**
+     * Sets all values from index `from` (inclusive) to index `to` (exclusive) to the given value.
+     * A single change is reported for the range.
+     *
+     * @param from the first index of the range.
+     * @param to the index behind the range.
+     * @param value the new value.
+     * @throws ArrayIndexOutOfBoundsException if the range is outside of the array.
+     */
+    public void set(int from, int to, boolean value) {
+        checkRange(from, to);
+
+        final int before = cardinality(from, to);
+        final int after = value ? to - from : 0;
+        if (before == after) {
+            return;
+        }
+
+        final int firstWord = from >> 6;
+        final int lastWord = (to - 1) >> 6;
+        final long firstMask = ALL_BITS << from;
+        final long lastMask = ALL_BITS >>> -to;
+
+        for (int i = firstWord; i <= lastWord; i++) {
+            long mask = ALL_BITS;
+            if (i == firstWord) {
+                mask &= firstMask;
+            }
+            if (i == lastWord) {
+                mask &= lastMask;
+            }
+            words[i] = value ? words[i] | mask : words[i] & ~mask;
+        }
+
+        cardinality += after - before;
+        fireChange(false, from, to);
+    }
+
+    /**
+     * Sets all values of the array to the given value.
+     *
+     * @param value the new value.
+     */
+    public void setAll(boolean value) {
+        if (size > 0) {
+            set(0, size, value);
+        }
+    }
+
+    /**
+     * Inverts the value at the given index.
+     *
+     * @param index the index of the value.
+     * @throws ArrayIndexOutOfBoundsException if the index is outside of the array.
+     */
+    public void flip(int index) {
+        checkIndex(index);
+
+        final long bit = 1L << index;
+        words[index >> 6] ^= bit;
+        cardinality += (words[index >> 6] & bit) != 0 ? 1 : -1;
+
+        fireChange(false, index, index + 1);
+    }
+
+    /**
+     * @return the number of values that are `true`.
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * @return a copy of the values as {@link BitSet}.
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return the number of values of this array.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Changes the size of the array. Added values are `false`.
+     *
+     * @param size the new size.
+     */
+    @Override
+    public void resize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size has to be non-negative but was " + size);
+        }
+        final int oldSize = this.size;
+        if (size == oldSize) {
+            return;
+        }
+
+        if (size < oldSize) {
+            cardinality -= cardinality(size, oldSize);
+            clearBits(size, oldSize);
+        } else {
+            ensureCapacity(size);
+        }
+
+        this.size = size;
+        fireChange(true, Math.min(oldSize, size), Math.max(oldSize, size));
+    }
+
+    @Override
+    public void ensureCapacity(int capacity) {
+        final int wordCount = wordCount(capacity);
+        if (words.length < wordCount) {
+            words = Arrays.copyOf(words, Math.max(wordCount, words.length + (words.length >> 1)));
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        words = Arrays.copyOf(words, wordCount(size));
+    }
+
+    /**
+     * Removes all values from the array.
+     */
+    @Override
+    public void clear() {
+        resize(0);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            builder.append(i == 0 ? "" : ", ").append(get(i));
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Counts the `true` values in the given range word by word.
+     */
+    private int cardinality(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+
+        final int firstWord = from >> 6;
+        final int lastWord = (to - 1) >> 6;
+        final long firstMask = ALL_BITS << from;
+        final long lastMask = ALL_BITS >>> -to;
+
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+
+        int count = Long.bitCount(words[firstWord] & firstMask);
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count + Long.bitCount(words[lastWord] & lastMask);
+    }
+
+    private void clearBits(int from, int to) {
+        final int firstWord = from >> 6;
+        final int lastWord = (to - 1) >> 6;
+
+        words[firstWord] &= ~(ALL_BITS << from);
+        for (int i = firstWord + 1; i <= lastWord; i++) {
+            words[i] = 0;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new ArrayIndexOutOfBoundsException("Range [" + from + ", " + to + ") is outside of the array of size " + size);
+        }
+    }
+
+    private static int wordCount(int size) {
+        return (size + 63) >> 6;
+    }
+}
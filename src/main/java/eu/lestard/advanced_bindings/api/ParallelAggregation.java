@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Support for full recomputations of collection aggregates that are done in parallel when the collection
+ * is large enough, see {@link CollectionBindings#setParallelThreshold(int)}.
+ *
+ * The work is done in a dedicated {@link ForkJoinPool} so that it doesn't compete with other users of the common
+ * pool. The calling thread blocks until the result is available, so the result is published to the binding
+ * at once just like a sequential computation would be.
+ */
+final class ParallelAggregation {
+
+    /**
+     * The number of values that are aggregated sequentially by a single task.
+     */
+    private static final int LEAF_SIZE = 1 << 14;
+
+    private static volatile int threshold = Integer.MAX_VALUE;
+
+    private static ForkJoinPool pool;
+
+    private ParallelAggregation() {
+    }
+
+    static int getThreshold() {
+        return threshold;
+    }
+
+    static void setThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The threshold has to be positive but was " + threshold);
+        }
+        ParallelAggregation.threshold = threshold;
+    }
+
+    /**
+     * @return `true` if a full recomputation over the given number of elements should be done in parallel.
+     */
+    static boolean isParallel(int size) {
+        return size >= threshold;
+    }
+
+    /**
+     * Aggregates the values in parallel by splitting them into ranges that are aggregated on their own
+     * and merging the partial aggregates afterwards.
+     */
+    static <A extends NumberAggregator> A aggregate(double[] values, Supplier<A> factory, BinaryOperator<A> merger) {
+        return invoke(new AggregateTask<>(values, 0, values.length, factory, merger));
+    }
+
+    /**
+     * Reduces the elements of the list. If the list is large enough it is copied into an array
+     * that is reduced in parallel.
+     */
+    static <T> Optional<T> reduce(List<T> items, BinaryOperator<T> reducer) {
+        if (!isParallel(items.size())) {
+            return items.stream().reduce(reducer);
+        }
+
+        @SuppressWarnings("unchecked")
+        final T[] snapshot = (T[]) items.toArray();
+        return invoke(ForkJoinTask.adapt(() -> Arrays.stream(snapshot).parallel().reduce(reducer)));
+    }
+
+    static void sort(double[] values) {
+        if (isParallel(values.length)) {
+            invoke(ForkJoinTask.adapt(() -> Arrays.parallelSort(values)));
+        } else {
+            Arrays.sort(values);
+        }
+    }
+
+    /**
+     * Runs the task in the dedicated pool. Tasks that are forked by the given task (including the tasks of
+     * parallel streams and parallel sorts) are executed in the same pool.
+     */
+    static <T> T invoke(ForkJoinTask<T> task) {
+        return getPool().invoke(task);
+    }
+
+    private static synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), p -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName("advanced-bindings-aggregation-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    private static final class AggregateTask<A extends NumberAggregator> extends RecursiveTask<A> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final double[] values;
+        private final int from;
+        private final int to;
+        private final Supplier<A> factory;
+        private final BinaryOperator<A> merger;
+
+        private AggregateTask(double[] values, int from, int to, Supplier<A> factory, BinaryOperator<A> merger) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.factory = factory;
+            this.merger = merger;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= LEAF_SIZE) {
+                final A aggregate = factory.get();
+                for (int i = from; i < to; i++) {
+                    aggregate.add(values[i]);
+                }
+                return aggregate;
+            }
+
+            final int middle = (from + to) >>> 1;
+            final AggregateTask<A> left = new AggregateTask<>(values, from, middle, factory, merger);
+            final AggregateTask<A> right = new AggregateTask<>(values, middle, to, factory, merger);
+
+            right.fork();
+            final A leftResult = left.compute();
+            return merger.apply(leftResult, right.join());
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.Observable;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.FloatBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.LongBinding;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableNumberValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Bindings of one or two observable numbers that compute their value with a primitive function.
+ *
+ * The bindings created by {@link javafx.beans.binding.Bindings#createDoubleBinding} and friends compute their value
+ * with a {@link java.util.concurrent.Callable}, which boxes every new value. The bindings of this class
+ * override `computeValue()` directly and read their dependencies with the primitive getters, so recomputing
+ * their value doesn't allocate anything.
+ *
+ * Like the bindings of JavaFX they log exceptions of the function and take the value `0` instead of throwing,
+ * for example if an `*Exact` function of {@link MathBindings} overflows.
+ *
+ * Double and float bindings read their dependencies with `doubleValue()`. This is exact for `int`, `float`
+ * and `double` values, so float functions can safely cast their arguments back to `float`.
+ */
+final class PrimitiveBindings {
+
+    private PrimitiveBindings() {
+    }
+
+    static DoubleBinding doubleBinding(final ObservableNumberValue a, final DoubleUnaryOperator function) {
+        return new DoubleBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a);
+
+            @Override
+            protected double computeValue() {
+                try {
+                    return function.applyAsDouble(a.doubleValue());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(a);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static DoubleBinding doubleBinding(final ObservableNumberValue a, final ObservableNumberValue b, final DoubleBinaryOperator function) {
+        return new DoubleBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a, b);
+
+            @Override
+            protected double computeValue() {
+                try {
+                    return function.applyAsDouble(a.doubleValue(), b.doubleValue());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(a, b);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static FloatBinding floatBinding(final ObservableNumberValue a, final DoubleUnaryOperator function) {
+        return new FloatBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a);
+
+            @Override
+            protected float computeValue() {
+                try {
+                    return (float) function.applyAsDouble(a.doubleValue());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(a);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static FloatBinding floatBinding(final ObservableNumberValue a, final ObservableNumberValue b, final DoubleBinaryOperator function) {
+        return new FloatBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a, b);
+
+            @Override
+            protected float computeValue() {
+                try {
+                    return (float) function.applyAsDouble(a.doubleValue(), b.doubleValue());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(a, b);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static IntegerBinding integerBinding(final ObservableIntegerValue a, final IntUnaryOperator function) {
+        return new IntegerBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a);
+
+            @Override
+            protected int computeValue() {
+                try {
+                    return function.applyAsInt(a.get());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(a);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static IntegerBinding integerBinding(final ObservableIntegerValue a, final ObservableIntegerValue b, final IntBinaryOperator function) {
+        return new IntegerBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a, b);
+
+            @Override
+            protected int computeValue() {
+                try {
+                    return function.applyAsInt(a.get(), b.get());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(a, b);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static IntegerBinding doubleToIntegerBinding(final ObservableNumberValue a, final DoubleToIntFunction function) {
+        return new IntegerBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a);
+
+            @Override
+            protected int computeValue() {
+                try {
+                    return function.applyAsInt(a.doubleValue());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(a);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static IntegerBinding longToIntegerBinding(final ObservableLongValue a, final LongToIntFunction function) {
+        return new IntegerBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a);
+
+            @Override
+            protected int computeValue() {
+                try {
+                    return function.applyAsInt(a.get());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(a);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static LongBinding longBinding(final ObservableLongValue a, final LongUnaryOperator function) {
+        return new LongBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a);
+
+            @Override
+            protected long computeValue() {
+                try {
+                    return function.applyAsLong(a.get());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(a);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static LongBinding longBinding(final ObservableLongValue a, final ObservableLongValue b, final LongBinaryOperator function) {
+        return new LongBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a, b);
+
+            @Override
+            protected long computeValue() {
+                try {
+                    return function.applyAsLong(a.get(), b.get());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return dependencies(a, b);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    static LongBinding doubleToLongBinding(final ObservableNumberValue a, final DoubleToLongFunction function) {
+        return new LongBinding() {
+            private final BatchingObserver observer = new BatchingObserver(this, a);
+
+            @Override
+            protected long computeValue() {
+                try {
+                    return function.applyAsLong(a.doubleValue());
+                } catch (RuntimeException e) {
+                    BatchingBindings.logException(e);
+                    return 0;
+                }
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return FXCollections.singletonObservableList(a);
+            }
+
+            @Override
+            public void dispose() {
+                observer.dispose();
+            }
+        };
+    }
+
+    private static ObservableList<Observable> dependencies(Observable a, Observable b) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(a, b));
+    }
+}
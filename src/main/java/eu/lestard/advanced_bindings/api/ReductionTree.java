@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+
+/**
+ * A sequence of values that keeps the reduction of all values with an associative operator up to date.
+ *
+ * The values are stored in a balanced binary tree (an implicit treap) whose nodes are ordered by their position
+ * in the sequence. Each node holds the reduction of its subtree, so inserting or removing a range of k values only
+ * recombines O(k + log n) nodes. Changing the operator recombines all nodes once. If the tree is larger than the
+ * {@link CollectionBindings#setParallelThreshold(int) parallel threshold} the subtrees are recombined in parallel.
+ *
+ * While no operator is set the tree only keeps track of the values. The partial reductions are computed as soon
+ * as an operator is set again.
+ *
+ * @param <T> the type of the values.
+ */
+final class ReductionTree<T> {
+
+    /**
+     * The depth up to which the subtrees are recombined by tasks of their own.
+     */
+    private static final int PARALLEL_DEPTH = 8;
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+
+        private T reduction;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+
+    private Node<T> root;
+    private BinaryOperator<T> operator;
+
+    private int seed = 0x2545F491;
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    boolean hasOperator() {
+        return operator != null;
+    }
+
+    /**
+     * Sets the operator that is used to reduce the values and recombines all nodes with it.
+     *
+     * @param operator the associative operator or `null` to defer the reduction until an operator is set again.
+     */
+    void setOperator(BinaryOperator<T> operator) {
+        this.operator = operator;
+
+        if (operator != null) {
+            updateAll(root, size());
+        }
+    }
+
+    /**
+     * @return the reduction of all values. Only defined when the tree is not empty and an operator is set.
+     */
+    T reduction() {
+        return root.reduction;
+    }
+
+    void insert(int index, List<? extends T> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        final Node<T> inserted = build(values);
+
+        if (root == null) {
+            root = inserted;
+        } else {
+            final Node<T>[] parts = split(root, index);
+            root = merge(merge(parts[0], inserted), parts[1]);
+        }
+    }
+
+    void remove(int index, int count) {
+        if (count == 0) {
+            return;
+        }
+
+        final Node<T>[] head = split(root, index);
+        final Node<T>[] tail = split(head[1], count);
+        root = merge(head[0], tail[1]);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Splits the tree into the first `count` values and the remaining values.
+     */
+    private Node<T>[] split(Node<T> node, int count) {
+        @SuppressWarnings("unchecked")
+        final Node<T>[] parts = (Node<T>[]) new Node<?>[2];
+
+        if (node == null) {
+            return parts;
+        }
+
+        if (size(node.left) < count) {
+            final Node<T>[] rightParts = split(node.right, count - size(node.left) - 1);
+            node.right = rightParts[0];
+            update(node);
+            parts[0] = node;
+            parts[1] = rightParts[1];
+        } else {
+            final Node<T>[] leftParts = split(node.left, count);
+            node.left = leftParts[1];
+            update(node);
+            parts[0] = leftParts[0];
+            parts[1] = node;
+        }
+
+        return parts;
+    }
+
+    /**
+     * Merges two trees where all values of the first one are located before the values of the second one.
+     */
+    private Node<T> merge(Node<T> a, Node<T> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            update(a);
+            return a;
+        } else {
+            b.left = merge(a, b.left);
+            update(b);
+            return b;
+        }
+    }
+
+    /**
+     * Builds a tree of the given values in linear time by keeping the right spine on a stack.
+     */
+    private Node<T> build(List<? extends T> values) {
+        final Deque<Node<T>> spine = new ArrayDeque<>();
+
+        for (T value : values) {
+            final Node<T> node = new Node<>(value, nextPriority());
+
+            Node<T> last = null;
+            while (!spine.isEmpty() && spine.peek().priority < node.priority) {
+                last = spine.pop();
+            }
+            node.left = last;
+
+            if (!spine.isEmpty()) {
+                spine.peek().right = node;
+            }
+            spine.push(node);
+        }
+
+        final Node<T> root = spine.peekLast();
+        updateAll(root, values.size());
+        return root;
+    }
+
+    private void updateAll(Node<T> node, int size) {
+        if (operator != null && ParallelAggregation.isParallel(size)) {
+            ParallelAggregation.invoke(new UpdateTask(node, 0));
+        } else {
+            updateAll(node);
+        }
+    }
+
+    private void updateAll(Node<T> node) {
+        if (node != null) {
+            updateAll(node.left);
+            updateAll(node.right);
+            update(node);
+        }
+    }
+
+    private void update(Node<T> node) {
+        node.size = size(node.left) + 1 + size(node.right);
+
+        if (operator != null) {
+            T reduction = node.value;
+            if (node.left != null) {
+                reduction = operator.apply(node.left.reduction, reduction);
+            }
+            if (node.right != null) {
+                reduction = operator.apply(reduction, node.right.reduction);
+            }
+            node.reduction = reduction;
+        }
+    }
+
+    private final class UpdateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Node<T> node;
+        private final int depth;
+
+        private UpdateTask(Node<T> node, int depth) {
+            this.node = node;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (node == null) {
+                return;
+            }
+
+            if (depth >= PARALLEL_DEPTH) {
+                updateAll(node);
+            } else {
+                invokeAll(new UpdateTask(node.left, depth + 1), new UpdateTask(node.right, depth + 1));
+                update(node);
+            }
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private int nextPriority() {
+        // xorshift
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+/**
+ * The count, mean and sum of squared deviations from the mean (M2) of a bag of double values.
+ *
+ * The moments are updated with Welford's online algorithm, which can both add and remove values in O(1)
+ * without the catastrophic cancellation of the textbook `E[x²] - E[x]²` formula.
+ * Partial moments are merged with the pairwise update of Chan et al.
+ *
+ * Like {@link CompensatedSum} infinite and `NaN` values are only counted, so removing them again
+ * brings the moments back to finite values.
+ */
+final class RunningMoments implements NumberAggregator {
+
+    private int count;
+    private double mean;
+    private double m2;
+
+    private int nanCount;
+    private int positiveInfinityCount;
+    private int negativeInfinityCount;
+
+    @Override
+    public void add(double value) {
+        if (!countNonFinite(value, 1)) {
+            count++;
+            final double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+    }
+
+    @Override
+    public void remove(double value) {
+        if (!countNonFinite(value, -1)) {
+            if (count <= 1) {
+                count = 0;
+                mean = 0;
+                m2 = 0;
+            } else {
+                count--;
+                final double delta = value - mean;
+                mean -= delta / count;
+                // rounding errors must not lead to a negative variance
+                m2 = Math.max(0, m2 - delta * (value - mean));
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        count = 0;
+        mean = 0;
+        m2 = 0;
+        nanCount = 0;
+        positiveInfinityCount = 0;
+        negativeInfinityCount = 0;
+    }
+
+    /**
+     * Computes the moments of large arrays in parallel by computing the moments of ranges of the array
+     * on their own and merging them.
+     */
+    @Override
+    public void addAll(double[] values) {
+        merge(ParallelAggregation.aggregate(values, RunningMoments::new, RunningMoments::merge));
+    }
+
+    /**
+     * Adds all values of the other moments to these moments.
+     *
+     * @return these moments.
+     */
+    RunningMoments merge(RunningMoments other) {
+        nanCount += other.nanCount;
+        positiveInfinityCount += other.positiveInfinityCount;
+        negativeInfinityCount += other.negativeInfinityCount;
+
+        if (other.count > 0) {
+            final int total = count + other.count;
+            final double delta = other.mean - mean;
+
+            mean += delta * other.count / total;
+            m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+            count = total;
+        }
+        return this;
+    }
+
+    /**
+     * @return the number of values including infinite and `NaN` values.
+     */
+    int count() {
+        return count + nanCount + positiveInfinityCount + negativeInfinityCount;
+    }
+
+    /**
+     * @return the arithmetic mean of all values, `NaN` if there are no values.
+     */
+    double mean() {
+        if (count() == 0 || nanCount > 0 || (positiveInfinityCount > 0 && negativeInfinityCount > 0)) {
+            return Double.NaN;
+        }
+        if (positiveInfinityCount > 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (negativeInfinityCount > 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return mean;
+    }
+
+    /**
+     * @return the population variance, `NaN` if there are no values or there are infinite or `NaN` values.
+     */
+    double variance() {
+        return count == 0 || hasNonFinite() ? Double.NaN : m2 / count;
+    }
+
+    /**
+     * @return the sample variance, `NaN` if there are less than two values or there are infinite or `NaN` values.
+     */
+    double sampleVariance() {
+        return count < 2 || hasNonFinite() ? Double.NaN : m2 / (count - 1);
+    }
+
+    private boolean hasNonFinite() {
+        return nanCount > 0 || positiveInfinityCount > 0 || negativeInfinityCount > 0;
+    }
+
+    /**
+     * @return `true` if the value isn't finite and has only been counted.
+     */
+    private boolean countNonFinite(double value, int direction) {
+        if (Double.isNaN(value)) {
+            nanCount += direction;
+        } else if (value == Double.POSITIVE_INFINITY) {
+            positiveInfinityCount += direction;
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            negativeInfinityCount += direction;
+        } else {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+/**
+ * Overflow checks and saturating arithmetic for `long` values that don't throw exceptions.
+ *
+ * The `int` variants of the saturating bindings compute the exact result as `long` instead,
+ * which can't overflow for the supported operations.
+ */
+final class SaturatedArithmetic {
+
+    private SaturatedArithmetic() {
+    }
+
+    static int clampToInt(long value) {
+        return value > Integer.MAX_VALUE ? Integer.MAX_VALUE : value < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) value;
+    }
+
+    static boolean overflowsInt(long value) {
+        return value != (int) value;
+    }
+
+    static boolean addOverflows(long x, long y) {
+        final long result = x + y;
+        // the result has a different sign than both arguments
+        return ((x ^ result) & (y ^ result)) < 0;
+    }
+
+    static long add(long x, long y) {
+        return addOverflows(x, y) ? saturate(x < 0) : x + y;
+    }
+
+    static boolean subtractOverflows(long x, long y) {
+        final long result = x - y;
+        // the arguments have different signs and the result has a different sign than x
+        return ((x ^ y) & (x ^ result)) < 0;
+    }
+
+    static long subtract(long x, long y) {
+        return subtractOverflows(x, y) ? saturate(x < 0) : x - y;
+    }
+
+    static boolean multiplyOverflows(long x, long y) {
+        // the product fits into a long if the upper 64 bits of the 128 bit product only repeat its sign
+        return multiplyHigh(x, y) != (x * y) >> 63;
+    }
+
+    static long multiply(long x, long y) {
+        return multiplyOverflows(x, y) ? saturate((x ^ y) < 0) : x * y;
+    }
+
+    static long negate(long x) {
+        return x == Long.MIN_VALUE ? Long.MAX_VALUE : -x;
+    }
+
+    /**
+     * @return the upper 64 bits of the signed 128 bit product of the arguments, like `Math.multiplyHigh`
+     * which is only available since Java 9.
+     */
+    static long multiplyHigh(long x, long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & 0xFFFFFFFFL;
+        final long y1 = y >> 32;
+        final long y2 = y & 0xFFFFFFFFL;
+
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        final long z0 = t >> 32;
+        z1 += x2 * y1;
+
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    private static long saturate(boolean negative) {
+        return negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+}
@@ -21,7 +21,6 @@
  */
 package eu.lestard.advanced_bindings.api;
 
-import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.value.ObservableValue;
@@ -48,7 +47,7 @@ public class StringBindings {
 	 * @return a boolean binding instance.
 	 */
 	public static BooleanBinding matches(final ObservableValue<String> text, final String pattern) {
-		return Bindings.createBooleanBinding(() -> {
+		return BatchingBindings.createBooleanBinding(() -> {
 			final String textToVerify = text.getValue();
 			return textToVerify != null && textToVerify.matches(pattern);
 		}, text);
@@ -65,7 +64,7 @@ public class StringBindings {
 	 * @return a boolean binding instance.
 	 */
 	public static BooleanBinding matches(final ObservableValue<String> text, final ObservableValue<String> pattern) {
-		return Bindings.createBooleanBinding(() -> {
+		return BatchingBindings.createBooleanBinding(() -> {
 			final String textToVerify = text.getValue();
 			final String patternString = pattern.getValue();
 			
@@ -84,7 +83,7 @@ public class StringBindings {
 	 * @return a binding containing the trimmed string.
 	 */
 	public static StringBinding trim(ObservableValue<String> text) {
-		return Bindings.createStringBinding(()
+		return BatchingBindings.createStringBinding(()
 				-> text.getValue() == null ? "" : text.getValue().trim(), text);
 	}
 	
@@ -100,7 +99,7 @@ public class StringBindings {
 	 * @return a binding containing the lowercase string.
 	 */
 	public static StringBinding toLowerCase(ObservableValue<String> text) {
-		return Bindings.createStringBinding(()
+		return BatchingBindings.createStringBinding(()
 				-> text.getValue() == null ? "" : text.getValue().toLowerCase(), text);
 	}
 	
@@ -117,7 +116,7 @@ public class StringBindings {
 	 * @return a binding containing the lowercase string.
 	 */
 	public static StringBinding toLowerCase(ObservableValue<String> text, Locale locale) {
-		return Bindings.createStringBinding(()
+		return BatchingBindings.createStringBinding(()
 				-> text.getValue() == null ? "" : text.getValue().toLowerCase(locale), text);
 	}
 
@@ -137,7 +136,7 @@ public class StringBindings {
      * @return a binding containing the lowercase string.
      */
 	public static StringBinding toLowerCase(ObservableValue<String> text, ObservableValue<Locale> locale) {
-		return Bindings.createStringBinding(() -> {
+		return BatchingBindings.createStringBinding(() -> {
 			if (text.getValue() == null) {
 				return "";
 			}
@@ -159,7 +158,7 @@ public class StringBindings {
      * @return a binding containing the uppercase string.
      */
 	public static StringBinding toUpperCase(ObservableValue<String> text) {
-		return Bindings.createStringBinding(()
+		return BatchingBindings.createStringBinding(()
 				-> text.getValue() == null ? "" : text.getValue().toUpperCase(), text);
 	}
 
@@ -176,7 +175,7 @@ public class StringBindings {
      * @return a binding containing the uppercase string.
      */
 	public static StringBinding toUpperCase(ObservableValue<String> text, Locale locale) {
-		return Bindings.createStringBinding(()
+		return BatchingBindings.createStringBinding(()
 				-> text.getValue() == null ? "" : text.getValue().toUpperCase(locale), text);
 	}
 
@@ -196,7 +195,7 @@ public class StringBindings {
      * @return a binding containing the uppercase string.
      */
 	public static StringBinding toUpperCase(ObservableValue<String> text, ObservableValue<Locale> locale) {
-		return Bindings.createStringBinding(() -> {
+		return BatchingBindings.createStringBinding(() -> {
 			final Locale localeValue = locale.getValue() == null ? Locale.getDefault() : locale.getValue();
 			
 			return text.getValue() == null ? "" : text.getValue().toUpperCase(localeValue);
@@ -218,7 +217,7 @@ public class StringBindings {
 	 * @return a binding containing the transformed string.
 	 */
 	public static StringBinding transforming(ObservableValue<String> text, Function<String, String> transformer) {
-		return Bindings.createStringBinding(()
+		return BatchingBindings.createStringBinding(()
 			-> {
 			Function<String, String> func = transformer == null ? Function.identity() : transformer;
 			return text.getValue() == null ? "" : func.apply(text.getValue());
@@ -240,7 +239,7 @@ public class StringBindings {
 	 * @return a binding containing the transformed string.
 	 */
 	public static StringBinding transforming(ObservableValue<String> text, ObservableValue<Function<String, String>> transformer) {
-		return Bindings.createStringBinding(() -> {
+		return BatchingBindings.createStringBinding(() -> {
 			Function<String, String> func = transformer.getValue() == null ? Function.identity() : transformer.getValue();
 			return text.getValue() == null ? "" : func.apply(text.getValue());
 		}, text, transformer);
@@ -21,7 +21,6 @@
  */
 package eu.lestard.advanced_bindings.api;
 
-import javafx.beans.binding.Bindings;
 import javafx.beans.value.ObservableValue;
 import javafx.util.Callback;
 
@@ -76,7 +75,7 @@ public class SwitchBindings {
          * @return the observable value defined by this builder.
          */
         public ObservableValue<R> build(){
-            return Bindings.createObjectBinding(()-> {
+            return BatchingBindings.createObjectBinding(()-> {
                 final T enumValue = baseObservable.getValue();
 
                 if(enumValue == null){
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.util.Duration;
+
+/**
+ * Base class of the bindings of {@link TimedBindings}. The binding holds a value of the source that is
+ * taken with {@link #publish()} and doesn't follow the invalidations of the source directly.
+ * Instead the subclasses decide with the help of the scheduler when the next value is taken.
+ *
+ * @param <T> the type of the value.
+ */
+abstract class TimedBinding<T> extends ObjectBinding<T> {
+
+    private final ObservableValue<T> source;
+    final Duration duration;
+    final BindingScheduler scheduler;
+
+    // the listener is the key of the deferred action because the binding itself is the key of its deferred invalidation
+    private final InvalidationListener listener = observable -> AdvancedBindings.runAfterBatch(this.listener, this::sourceInvalidated);
+    private final WeakInvalidationListener weakListener = new WeakInvalidationListener(listener);
+
+    private T value;
+
+    BindingScheduler.ScheduledTask scheduled;
+
+    TimedBinding(ObservableValue<T> source, Duration duration, BindingScheduler scheduler) {
+        if (duration.lessThan(Duration.ZERO) || duration.isUnknown()) {
+            throw new IllegalArgumentException("The duration has to be non-negative but was " + duration);
+        }
+
+        this.source = source;
+        this.duration = duration;
+        this.scheduler = scheduler;
+
+        value = source.getValue();
+        source.addListener(weakListener);
+    }
+
+    /**
+     * Is called when the source is invalidated. Like with all invalidation listeners the source only
+     * reports the next invalidation after its value has been requested again.
+     */
+    abstract void sourceInvalidated();
+
+    /**
+     * Takes the current value of the source and invalidates this binding.
+     */
+    final void publish() {
+        value = source.getValue();
+        AdvancedBindings.invalidate(this);
+    }
+
+    /**
+     * Requests the value of the source, so that the next change of the source is reported, but doesn't change
+     * the value of this binding.
+     */
+    final void observeNextChange() {
+        source.getValue();
+    }
+
+    @Override
+    protected T computeValue() {
+        return value;
+    }
+
+    @Override
+    public ObservableList<?> getDependencies() {
+        return FXCollections.singletonObservableList(source);
+    }
+
+    @Override
+    public void dispose() {
+        source.removeListener(weakListener);
+
+        if (scheduled != null) {
+            scheduled.cancel();
+            scheduled = null;
+        }
+    }
+
+    /**
+     * Takes the first change immediately. Further changes in the following time window are collected
+     * and the latest value is taken at the end of the window.
+     */
+    static final class Throttle<T> extends TimedBinding<T> {
+
+        private boolean pending;
+
+        Throttle(ObservableValue<T> source, Duration duration, BindingScheduler scheduler) {
+            super(source, duration, scheduler);
+        }
+
+        @Override
+        void sourceInvalidated() {
+            if (scheduled != null) {
+                pending = true;
+                return;
+            }
+
+            publish();
+            openWindow();
+        }
+
+        private void openWindow() {
+            scheduled = scheduler.schedule(duration, () -> {
+                scheduled = null;
+
+                if (pending) {
+                    pending = false;
+                    publish();
+                    openWindow();
+                }
+            });
+        }
+    }
+
+    /**
+     * Takes the value when the source hasn't changed for the duration.
+     */
+    static final class Debounce<T> extends TimedBinding<T> {
+
+        Debounce(ObservableValue<T> source, Duration duration, BindingScheduler scheduler) {
+            super(source, duration, scheduler);
+        }
+
+        @Override
+        void sourceInvalidated() {
+            if (scheduled != null) {
+                scheduled.cancel();
+            }
+
+            // every change has to restart the delay, so the source has to report the next one
+            observeNextChange();
+
+            scheduled = scheduler.schedule(duration, () -> {
+                scheduled = null;
+                publish();
+            });
+        }
+    }
+
+    /**
+     * Takes the value at the end of the time window that starts with a change.
+     */
+    static final class Sample<T> extends TimedBinding<T> {
+
+        Sample(ObservableValue<T> source, Duration duration, BindingScheduler scheduler) {
+            super(source, duration, scheduler);
+        }
+
+        @Override
+        void sourceInvalidated() {
+            if (scheduled != null) {
+                return;
+            }
+
+            scheduled = scheduler.schedule(duration, () -> {
+                scheduled = null;
+                publish();
+            });
+        }
+    }
+
+    /**
+     * Takes the value at the next pulse after a change.
+     */
+    static final class Pulse<T> extends TimedBinding<T> {
+
+        Pulse(ObservableValue<T> source, BindingScheduler scheduler) {
+            super(source, Duration.ZERO, scheduler);
+        }
+
+        @Override
+        void sourceInvalidated() {
+            if (scheduled != null) {
+                return;
+            }
+
+            scheduled = scheduler.scheduleOnNextPulse(() -> {
+                scheduled = null;
+                publish();
+            });
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.value.ObservableValue;
+import javafx.util.Duration;
+
+/**
+ * This class contains bindings that limit how often the changes of a source observable are passed on.
+ *
+ * They are useful when the source changes much more often than its dependents need to be updated, for example
+ * an expensive filter that depends on the text of a search field or an aggregate of a fast-ticking feed.
+ * The bindings hold a value of the source and are only invalidated when they take a new value, so their dependents
+ * are recomputed at most once per time window no matter how often the source changes.
+ *
+ * The timing is done by a {@link BindingScheduler}. The methods without a scheduler parameter use
+ * {@link BindingScheduler#fx()} and have to be used on the JavaFX application thread.
+ * In tests a {@link BindingScheduler.Virtual} can be used instead.
+ */
+public class TimedBindings {
+
+    /**
+     * Creates a binding that takes the value of the source at most once per time window.
+     *
+     * The first change of the source is taken immediately and starts a time window of the given duration.
+     * When the source changes during the window its latest value is taken at the end of the window,
+     * which starts the next window.
+     *
+     * The source is only read when a value is taken, so an expensive source binding is recomputed at most once
+     * per window, too.
+     *
+     * @param source the source observable.
+     * @param duration the length of the time window.
+     * @param <T> the type of the value.
+     * @return the throttled binding.
+     */
+    public static <T> ObjectBinding<T> throttle(final ObservableValue<T> source, final Duration duration) {
+        return throttle(source, duration, BindingScheduler.fx());
+    }
+
+    /**
+     * See {@link #throttle(ObservableValue, Duration)}.
+     *
+     * @param source the source observable.
+     * @param duration the length of the time window.
+     * @param scheduler the scheduler of the time windows.
+     * @param <T> the type of the value.
+     * @return the throttled binding.
+     */
+    public static <T> ObjectBinding<T> throttle(final ObservableValue<T> source, final Duration duration, final BindingScheduler scheduler) {
+        return new TimedBinding.Throttle<>(source, duration, scheduler);
+    }
+
+    /**
+     * Creates a binding that takes the value of the source when it hasn't changed for the given duration.
+     * A typical use case is a search that should only be started when the user stops typing:
+     *
+     * ```java
+     * ObjectBinding<String> query = TimedBindings.debounce(searchField.textProperty(), Duration.millis(300));
+     * ```
+     *
+     * To notice every change the source is read after each change, so the source should be cheap to compute,
+     * like a property. For expensive source bindings use {@link #throttle(ObservableValue, Duration)} or
+     * {@link #sample(ObservableValue, Duration)}.
+     *
+     * @param source the source observable.
+     * @param duration the time without changes after which the value is taken.
+     * @param <T> the type of the value.
+     * @return the debounced binding.
+     */
+    public static <T> ObjectBinding<T> debounce(final ObservableValue<T> source, final Duration duration) {
+        return debounce(source, duration, BindingScheduler.fx());
+    }
+
+    /**
+     * See {@link #debounce(ObservableValue, Duration)}.
+     *
+     * @param source the source observable.
+     * @param duration the time without changes after which the value is taken.
+     * @param scheduler the scheduler of the delays.
+     * @param <T> the type of the value.
+     * @return the debounced binding.
+     */
+    public static <T> ObjectBinding<T> debounce(final ObservableValue<T> source, final Duration duration, final BindingScheduler scheduler) {
+        return new TimedBinding.Debounce<>(source, duration, scheduler);
+    }
+
+    /**
+     * Creates a binding that takes the value of the source at the end of a time window.
+     *
+     * A change of the source starts a time window of the given duration and the latest value of the source is
+     * taken at its end. Unlike {@link #throttle(ObservableValue, Duration)} the first change isn't taken immediately.
+     *
+     * The source is only read when a value is taken, so an expensive source binding is recomputed at most once
+     * per window, too.
+     *
+     * @param source the source observable.
+     * @param duration the length of the time window.
+     * @param <T> the type of the value.
+     * @return the sampled binding.
+     */
+    public static <T> ObjectBinding<T> sample(final ObservableValue<T> source, final Duration duration) {
+        return sample(source, duration, BindingScheduler.fx());
+    }
+
+    /**
+     * See {@link #sample(ObservableValue, Duration)}.
+     *
+     * @param source the source observable.
+     * @param duration the length of the time window.
+     * @param scheduler the scheduler of the time windows.
+     * @param <T> the type of the value.
+     * @return the sampled binding.
+     */
+    public static <T> ObjectBinding<T> sample(final ObservableValue<T> source, final Duration duration, final BindingScheduler scheduler) {
+        return new TimedBinding.Sample<>(source, duration, scheduler);
+    }
+
+    /**
+     * Creates a binding that takes the value of the source at most once per frame.
+     *
+     * When the source is invalidated the binding takes the value of the source at the next pulse of the
+     * JavaFX animation timer, i.e. right before the next frame is rendered. All invalidations of the source
+     * until then are coalesced, so the dependents of the binding are invalidated and their change listeners are
+     * called at most once per frame with the final value of the frame:
+     *
+     * ```java
+     * ObjectBinding<Boolean> anyFailure = TimedBindings.perPulse(LogicBindings.or(statusFlags));
+     *
+     * anyFailure.addListener((observable, oldValue, newValue) -> updateBanner(newValue));
+     * ```
+     *
+     * The source is only read at the pulse, so a source binding is recomputed at most once per frame, too.
+     *
+     * @param source the source observable.
+     * @param <T> the type of the value.
+     * @return the coalescing binding.
+     */
+    public static <T> ObjectBinding<T> perPulse(final ObservableValue<T> source) {
+        return perPulse(source, BindingScheduler.fx());
+    }
+
+    /**
+     * See {@link #perPulse(ObservableValue)}. The pulses are scheduled with
+     * {@link BindingScheduler#scheduleOnNextPulse(Runnable)} of the given scheduler.
+     *
+     * @param source the source observable.
+     * @param scheduler the scheduler of the pulses.
+     * @param <T> the type of the value.
+     * @return the coalescing binding.
+     */
+    public static <T> ObjectBinding<T> perPulse(final ObservableValue<T> source, final BindingScheduler scheduler) {
+        return new TimedBinding.Pulse<>(source, scheduler);
+    }
+}
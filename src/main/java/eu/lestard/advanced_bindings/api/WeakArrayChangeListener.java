@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.WeakListener;
+import javafx.collections.ArrayChangeListener;
+import javafx.collections.ObservableArray;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * The {@link ArrayChangeListener} counterpart of {@link javafx.collections.WeakListChangeListener}
+ * which JavaFX doesn't provide for observable arrays.
+ *
+ * @param <T> the type of the observable array.
+ */
+final class WeakArrayChangeListener<T extends ObservableArray<T>> implements ArrayChangeListener<T>, WeakListener {
+
+    private final WeakReference<ArrayChangeListener<T>> reference;
+
+    WeakArrayChangeListener(ArrayChangeListener<T> listener) {
+        this.reference = new WeakReference<>(listener);
+    }
+
+    @Override
+    public boolean wasGarbageCollected() {
+        return reference.get() == null;
+    }
+
+    @Override
+    public void onChanged(T array, boolean sizeChanged, int from, int to) {
+        final ArrayChangeListener<T> listener = reference.get();
+
+        if (listener == null) {
+            array.removeListener(this);
+        } else {
+            listener.onChanged(array, sizeChanged, from, to);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.NumberBinding;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.util.Duration;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static eu.lestard.assertj.javafx.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class AdvancedBindingsTest {
+
+    @Test
+    public void testBatchNotifiesOnce() {
+        DoubleProperty x = new SimpleDoubleProperty(0);
+        DoubleProperty y = new SimpleDoubleProperty(0);
+
+        DoubleBinding length = MathBindings.hypot(x, y);
+        DoubleBinding root = MathBindings.sqrt(length);
+
+        List<Number> changes = new ArrayList<>();
+        root.addListener((observable, oldValue, newValue) -> changes.add(newValue));
+
+        AdvancedBindings.batch(() -> {
+            for (int i = 1; i <= 50; i++) {
+                x.set(3 * i);
+                y.set(4 * i);
+                assertThat(root).hasValue(0.0);
+            }
+        });
+
+        assertThat(changes).containsExactly(Math.sqrt(250.0));
+    }
+
+    @Test
+    public void testWithoutBatch() {
+        DoubleProperty x = new SimpleDoubleProperty(0);
+        DoubleBinding length = MathBindings.hypot(x, 0);
+
+        List<Number> changes = new ArrayList<>();
+        length.addListener((observable, oldValue, newValue) -> changes.add(newValue));
+
+        x.set(1);
+        x.set(2);
+
+        assertThat(AdvancedBindings.isBatching()).isFalse();
+        assertThat(changes).containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    public void testBatchWithListChanges() {
+        ObservableList<Number> numbers = FXCollections.observableArrayList(1, 2, 3);
+        NumberBinding sum = CollectionBindings.sum(numbers);
+        CollectionBindings.Aggregates aggregates = CollectionBindings.aggregates(numbers);
+
+        AtomicInteger sumChanges = new AtomicInteger();
+        AtomicInteger maxChanges = new AtomicInteger();
+        sum.addListener((observable, oldValue, newValue) -> sumChanges.incrementAndGet());
+        aggregates.max().addListener((observable, oldValue, newValue) -> maxChanges.incrementAndGet());
+
+        AdvancedBindings.batch(() -> {
+            numbers.addAll(4, 5);
+            numbers.remove(0);
+            numbers.set(0, 10);
+            numbers.add(20);
+        });
+
+        assertThat(sumChanges.get()).isEqualTo(1);
+        assertThat(maxChanges.get()).isEqualTo(1);
+        assertThat(sum.getValue().doubleValue()).isEqualTo(42.0);
+        assertThat(aggregates.max()).hasValue(20.0);
+    }
+
+    @Test
+    public void testBatchWithLogicAndStringBindings() {
+        BooleanProperty a = new SimpleBooleanProperty(false);
+        BooleanProperty b = new SimpleBooleanProperty(false);
+        StringProperty text = new SimpleStringProperty("a");
+
+        BooleanBinding and = LogicBindings.and(a, b);
+        StringBinding upperCase = StringBindings.toUpperCase(text);
+
+        AtomicInteger andChanges = new AtomicInteger();
+        AtomicInteger textChanges = new AtomicInteger();
+        and.addListener((observable, oldValue, newValue) -> andChanges.incrementAndGet());
+        upperCase.addListener((observable, oldValue, newValue) -> textChanges.incrementAndGet());
+
+        AdvancedBindings.batch(() -> {
+            a.set(true);
+            b.set(true);
+            b.set(false);
+            b.set(true);
+            text.set("b");
+            text.set("c");
+        });
+
+        assertThat(andChanges.get()).isEqualTo(1);
+        assertThat(and).isTrue();
+        assertThat(textChanges.get()).isEqualTo(1);
+        assertThat(upperCase).hasValue("C");
+    }
+
+    @Test
+    public void testNestedBatches() {
+        IntegerProperty x = new SimpleIntegerProperty(0);
+        IntegerBinding negated = MathBindings.negateExact(x);
+
+        List<Number> changes = new ArrayList<>();
+        negated.addListener((observable, oldValue, newValue) -> changes.add(newValue));
+
+        AdvancedBindings.batch(() -> {
+            x.set(1);
+
+            AdvancedBindings.batch(() -> x.set(2));
+
+            assertThat(AdvancedBindings.isBatching()).isTrue();
+            assertThat(changes).isEmpty();
+
+            x.set(3);
+        });
+
+        assertThat(AdvancedBindings.isBatching()).isFalse();
+        assertThat(changes).containsExactly(-3);
+    }
+
+    @Test
+    public void testBatchEndsOnExceptions() {
+        IntegerProperty x = new SimpleIntegerProperty(0);
+        IntegerBinding negated = MathBindings.negateExact(x);
+
+        List<Number> changes = new ArrayList<>();
+        negated.addListener((observable, oldValue, newValue) -> changes.add(newValue));
+
+        try {
+            AdvancedBindings.batch(() -> {
+                x.set(1);
+                throw new IllegalStateException("test");
+            });
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("test");
+        }
+
+        assertThat(AdvancedBindings.isBatching()).isFalse();
+        assertThat(changes).containsExactly(-1);
+    }
+
+    @Test
+    public void testBatchRunsAllInvalidationsWhenListenersThrow() {
+        IntegerProperty x = new SimpleIntegerProperty(0);
+        IntegerProperty y = new SimpleIntegerProperty(0);
+        IntegerBinding negatedX = MathBindings.negateExact(x);
+        IntegerBinding negatedY = MathBindings.negateExact(y);
+        IntegerBinding negatedZ = MathBindings.negateExact(y);
+
+        negatedX.addListener((observable, oldValue, newValue) -> {
+            throw new IllegalStateException("x");
+        });
+        negatedY.addListener((observable, oldValue, newValue) -> {
+            throw new IllegalArgumentException("y");
+        });
+        List<Number> changes = new ArrayList<>();
+        negatedZ.addListener((observable, oldValue, newValue) -> changes.add(newValue));
+
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler previousHandler = thread.getUncaughtExceptionHandler();
+        // JavaFX passes exceptions of listeners to the handler, rethrow them to let them reach the batch
+        thread.setUncaughtExceptionHandler((t, e) -> {
+            throw (RuntimeException) e;
+        });
+        try {
+            AdvancedBindings.batch(() -> {
+                x.set(1);
+                y.set(2);
+            });
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("x");
+            assertThat(e.getSuppressed()).hasSize(1);
+            assertThat(e.getSuppressed()[0]).isInstanceOf(IllegalArgumentException.class).hasMessage("y");
+        } finally {
+            thread.setUncaughtExceptionHandler(previousHandler);
+        }
+
+        assertThat(changes).containsExactly(-2);
+        assertThat(AdvancedBindings.isBatching()).isFalse();
+    }
+
+    @Test
+    public void testBatchKeepsExceptionOfBlock() {
+        IntegerProperty x = new SimpleIntegerProperty(0);
+        IntegerBinding negated = MathBindings.negateExact(x);
+        negated.addListener((observable, oldValue, newValue) -> {
+            throw new IllegalArgumentException("listener");
+        });
+
+        Thread thread = Thread.currentThread();
+        Thread.UncaughtExceptionHandler previousHandler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> {
+            throw (RuntimeException) e;
+        });
+        try {
+            AdvancedBindings.batch(() -> {
+                x.set(1);
+                throw new IllegalStateException("block");
+            });
+            fail("exception expected");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("block");
+            assertThat(e.getSuppressed()).hasSize(1);
+            assertThat(e.getSuppressed()[0]).hasMessage("listener");
+        } finally {
+            thread.setUncaughtExceptionHandler(previousHandler);
+        }
+    }
+
+    @Test
+    public void testScheduledPublishAndSourceChangeInOneBatch() {
+        BindingScheduler.Virtual scheduler = new BindingScheduler.Virtual();
+        StringProperty source = new SimpleStringProperty("a");
+        ObjectBinding<String> sampled = TimedBindings.sample(source, Duration.millis(100), scheduler);
+
+        source.set("b");
+        AdvancedBindings.batch(() -> {
+            scheduler.advance(Duration.millis(100));
+            source.set("c");
+        });
+
+        assertThat(sampled.get()).isEqualTo("b");
+        assertThat(scheduler.getScheduledTaskCount()).isEqualTo(1);
+
+        scheduler.advance(Duration.millis(100));
+        assertThat(sampled.get()).isEqualTo("c");
+
+        source.set("d");
+        scheduler.advance(Duration.millis(100));
+        assertThat(sampled.get()).isEqualTo("d");
+    }
+
+    @Test
+    public void testAsyncCompletionAndSourceChangeInOneBatch() {
+        Queue<Runnable> background = new ArrayDeque<>();
+        Executor previousFxExecutor = AsyncBinding.getFxExecutor();
+        AsyncBinding.setFxExecutor(Runnable::run);
+        try {
+            StringProperty source = new SimpleStringProperty("a");
+            AsyncBinding<String> upperCase = ObjectBindings.mapAsync(source, String::toUpperCase, background::add);
+
+            AdvancedBindings.batch(() -> {
+                background.remove().run();
+                source.set("b");
+            });
+
+            assertThat(upperCase.get()).isEqualTo("A");
+            assertThat(upperCase.computing()).isTrue();
+            assertThat(background).hasSize(1);
+
+            background.remove().run();
+            assertThat(upperCase.get()).isEqualTo("B");
+        } finally {
+            AsyncBinding.setFxExecutor(previousFxExecutor);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * Verifies that the approximations stay within their documented error bounds.
+ * The arguments are sampled over all magnitudes of doubles, including the special values.
+ */
+public class ApproximateMathBindingsTest {
+
+    private static final double[] SPECIAL_VALUES = {0.0, -0.0, 1.0, -1.0, Math.PI, -Math.PI, Math.PI / 2, 2 * Math.PI,
+            Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, -Double.MAX_VALUE, 0x1p30, -0x1p30, 0x1p30 + 1,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+
+    @Test
+    public void testSinAndCos() {
+        DoubleProperty a = new SimpleDoubleProperty();
+        DoubleBinding sin = ApproximateMathBindings.sin(a);
+        DoubleBinding cos = ApproximateMathBindings.cos(a);
+
+        for (double value : samples()) {
+            a.set(value);
+
+            assertWithinAbsoluteError(sin.get(), Math.sin(value), 5e-7);
+            assertWithinAbsoluteError(cos.get(), Math.cos(value), 5e-7);
+        }
+    }
+
+    @Test
+    public void testAtan() {
+        DoubleProperty a = new SimpleDoubleProperty();
+        DoubleBinding atan = ApproximateMathBindings.atan(a);
+
+        for (double value : samples()) {
+            a.set(value);
+
+            assertWithinAbsoluteError(atan.get(), Math.atan(value), 1e-7);
+        }
+    }
+
+    @Test
+    public void testAtan2() {
+        DoubleProperty y = new SimpleDoubleProperty();
+        DoubleProperty x = new SimpleDoubleProperty();
+        DoubleBinding atan2 = ApproximateMathBindings.atan2(y, x);
+
+        double[] samples = samples();
+        for (int i = 0; i < samples.length; i++) {
+            y.set(samples[i]);
+            x.set(samples[samples.length - 1 - i]);
+
+            assertWithinAbsoluteError(atan2.get(), Math.atan2(y.get(), x.get()), 1e-7);
+        }
+
+        // new properties for every pair because changing between 0.0 and -0.0 doesn't invalidate a property
+        for (double first : SPECIAL_VALUES) {
+            for (double second : SPECIAL_VALUES) {
+                DoubleBinding special = ApproximateMathBindings.atan2(new SimpleDoubleProperty(first),
+                        new SimpleDoubleProperty(second));
+                assertWithinAbsoluteError(special.get(), Math.atan2(first, second), 1e-7);
+            }
+        }
+
+        assertThat(ApproximateMathBindings.atan2(1.0, x).get()).isEqualTo(Math.atan2(1.0, x.get()), offset(1e-7));
+        assertThat(ApproximateMathBindings.atan2(y, 1.0).get()).isEqualTo(Math.atan2(y.get(), 1.0), offset(1e-7));
+    }
+
+    @Test
+    public void testHypot() {
+        DoubleProperty x = new SimpleDoubleProperty();
+        DoubleProperty y = new SimpleDoubleProperty();
+        DoubleBinding hypot = ApproximateMathBindings.hypot(x, y);
+
+        double[] samples = samples();
+        for (int i = 0; i < samples.length; i++) {
+            x.set(samples[i]);
+            y.set(samples[(i * 7) % samples.length]);
+
+            double expected = Math.hypot(x.get(), y.get());
+            if (Double.isNaN(expected) || Double.isInfinite(expected) || expected == 0) {
+                assertThat(hypot.get()).isEqualTo(expected);
+            } else {
+                assertThat(Math.abs(hypot.get() - expected) / expected).isLessThan(1e-15);
+            }
+        }
+
+        x.set(3);
+        y.set(4);
+        assertThat(ApproximateMathBindings.hypot(3, y).get()).isEqualTo(5.0);
+        assertThat(ApproximateMathBindings.hypot(x, 4).get()).isEqualTo(5.0);
+    }
+
+    private static void assertWithinAbsoluteError(double actual, double expected, double error) {
+        if (Double.isNaN(expected)) {
+            assertThat(actual).isNaN();
+        } else {
+            assertThat(actual).isEqualTo(expected, offset(error));
+        }
+    }
+
+    /**
+     * @return random values of all magnitudes and signs together with the special values.
+     */
+    private static double[] samples() {
+        Random random = new Random(42);
+        double[] samples = new double[200_000 + SPECIAL_VALUES.length];
+
+        for (int i = 0; i < 200_000; i++) {
+            double mantissa = random.nextDouble() * 2 - 1;
+            samples[i] = i % 2 == 0
+                    ? mantissa * 10
+                    : Math.scalb(mantissa, random.nextInt(2 * Double.MAX_EXPONENT) - Double.MAX_EXPONENT);
+        }
+        System.arraycopy(SPECIAL_VALUES, 0, samples, 200_000, SPECIAL_VALUES.length);
+        return samples;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+
+import static eu.lestard.assertj.javafx.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncBindingTest {
+
+    /**
+     * An executor that runs the tasks only when the test says so.
+     */
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runNext() {
+            tasks.remove().run();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                runNext();
+            }
+        }
+
+        int size() {
+            return tasks.size();
+        }
+    }
+
+    private ManualExecutor background;
+    private ManualExecutor fx;
+
+    private Executor previousFxExecutor;
+
+    @Before
+    public void setup() {
+        background = new ManualExecutor();
+        fx = new ManualExecutor();
+
+        previousFxExecutor = AsyncBinding.getFxExecutor();
+        AsyncBinding.setFxExecutor(fx);
+    }
+
+    @After
+    public void tearDown() {
+        AsyncBinding.setFxExecutor(previousFxExecutor);
+    }
+
+    @Test
+    public void testMapAsync() {
+        StringProperty source = new SimpleStringProperty("hello");
+
+        AsyncBinding<Integer> length = ObjectBindings.mapAsync(source, String::length, -1, background);
+
+        assertThat(length).hasValue(-1);
+        assertThat(length.computing()).isTrue();
+
+        background.runAll();
+        assertThat(length).hasValue(-1);
+
+        fx.runAll();
+        assertThat(length).hasValue(5);
+        assertThat(length.computing()).isFalse();
+
+        source.set("hi");
+        assertThat(length).hasValue(5);
+        assertThat(length.computing()).isTrue();
+
+        background.runAll();
+        fx.runAll();
+        assertThat(length).hasValue(2);
+
+        source.set(null);
+        background.runAll();
+        fx.runAll();
+        assertThat(length).hasValue(-1);
+    }
+
+    @Test
+    public void testTheInputIsTakenWhenItChanges() {
+        StringProperty source = new SimpleStringProperty("a");
+        AsyncBinding<String> upperCase = ObjectBindings.mapAsync(source, String::toUpperCase, background);
+        background.runAll();
+        fx.runAll();
+
+        source.set("b");
+        Runnable computationForB = background.tasks.remove();
+        source.set("c");
+
+        computationForB.run();
+        fx.runAll();
+        assertThat(upperCase.get()).isEqualTo("A");
+        assertThat(upperCase.computing()).isTrue();
+
+        background.runAll();
+        fx.runAll();
+        assertThat(upperCase.get()).isEqualTo("C");
+    }
+
+    @Test
+    public void testOutdatedComputationsAreCancelled() {
+        StringProperty source = new SimpleStringProperty("a");
+        AtomicInteger calls = new AtomicInteger();
+
+        AsyncBinding<String> upperCase = ObjectBindings.mapAsync(source, value -> {
+            calls.incrementAndGet();
+            return value.toUpperCase();
+        }, background);
+
+        source.set("b");
+        source.set("c");
+        assertThat(background.size()).isEqualTo(3);
+        assertThat(((Future<?>) background.tasks.peek()).isCancelled()).isTrue();
+
+        background.runAll();
+        fx.runAll();
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(upperCase.get()).isEqualTo("C");
+    }
+
+    @Test
+    public void testResultsOfOlderGenerationsAreDiscarded() {
+        StringProperty source = new SimpleStringProperty("a");
+        AsyncBinding<String> upperCase = ObjectBindings.mapAsync(source, String::toUpperCase, background);
+
+        background.runAll();
+        source.set("b");
+        background.runAll();
+
+        // the result for "a" was published after the computation for "b" had been started
+        fx.runNext();
+        assertThat(upperCase.get()).isNull();
+
+        fx.runNext();
+        assertThat(upperCase.get()).isEqualTo("B");
+    }
+
+    @Test
+    public void testExceptionsKeepThePreviousValue() {
+        ObjectProperty<String> source = new SimpleObjectProperty<>("1");
+        AsyncBinding<Integer> number = ObjectBindings.mapAsync(source, Integer::parseInt, background);
+        background.runAll();
+        fx.runAll();
+
+        List<Throwable> exceptions = new ArrayList<>();
+        Thread.UncaughtExceptionHandler previousHandler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, exception) -> exceptions.add(exception));
+        try {
+            source.set("x");
+            background.runAll();
+            fx.runAll();
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(previousHandler);
+        }
+
+        assertThat(number).hasValue(1);
+        assertThat(number.computing()).isFalse();
+        assertThat(exceptions).hasSize(1);
+        assertThat(exceptions.get(0)).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    public void testDispose() {
+        StringProperty source = new SimpleStringProperty("a");
+        AsyncBinding<String> upperCase = ObjectBindings.mapAsync(source, String::toUpperCase, background);
+
+        upperCase.dispose();
+        assertThat(upperCase.computing()).isFalse();
+
+        source.set("b");
+        assertThat(background.size()).isEqualTo(1);
+
+        background.runAll();
+        fx.runAll();
+        assertThat(upperCase.get()).isNull();
+    }
+
+    @Test
+    public void testReducingAsync() {
+        ObservableList<Integer> numbers = FXCollections.observableArrayList(1, 2, 3);
+        ObjectProperty<BinaryOperator<Integer>> reducer = new SimpleObjectProperty<>(Integer::sum);
+
+        AsyncBinding<Integer> sum = CollectionBindings.reducingAsync(numbers, 0, reducer, background);
+        background.runAll();
+        fx.runAll();
+        assertThat(sum).hasValue(6);
+
+        numbers.add(4);
+        numbers.set(0, 10);
+        background.runAll();
+        fx.runAll();
+        assertThat(sum).hasValue(19);
+
+        reducer.set(Math::max);
+        background.runAll();
+        fx.runAll();
+        assertThat(sum).hasValue(10);
+
+        numbers.clear();
+        background.runAll();
+        fx.runAll();
+        assertThat(sum).hasValue(0);
+    }
+}
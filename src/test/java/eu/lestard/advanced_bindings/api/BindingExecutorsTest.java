@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BindingExecutorsTest {
+
+    @Test
+    public void testDefaultExecutorRunsTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        BindingExecutors.getDefaultExecutor().execute(latch::countDown);
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testLimitedExecutor() {
+        Queue<Runnable> slots = new ArrayDeque<>();
+        Executor delegate = slots::add;
+        List<Integer> executed = new ArrayList<>();
+
+        BindingExecutors.LimitedExecutor limited = BindingExecutors.limited(delegate, 2);
+        for (int i = 0; i < 5; i++) {
+            int number = i;
+            limited.execute(() -> executed.add(number));
+        }
+
+        assertThat(limited.getMaxConcurrency()).isEqualTo(2);
+        assertThat(slots).hasSize(2);
+        assertThat(limited.getActiveCount()).isEqualTo(2);
+        assertThat(limited.getQueuedTaskCount()).isEqualTo(5);
+
+        slots.remove().run();
+        assertThat(executed).containsExactly(0, 1, 2, 3, 4);
+        assertThat(limited.getActiveCount()).isEqualTo(1);
+        assertThat(limited.getQueuedTaskCount()).isEqualTo(0);
+        assertThat(limited.getCompletedTaskCount()).isEqualTo(5);
+
+        slots.remove().run();
+        assertThat(limited.getActiveCount()).isEqualTo(0);
+
+        limited.execute(() -> executed.add(5));
+        assertThat(slots).hasSize(1);
+    }
+
+    @Test
+    public void testLimitedExecutorContinuesAfterExceptions() {
+        Queue<Runnable> slots = new ArrayDeque<>();
+        List<Throwable> exceptions = new ArrayList<>();
+        List<String> executed = new ArrayList<>();
+
+        BindingExecutors.LimitedExecutor limited = BindingExecutors.limited(slots::add, 1);
+        limited.execute(() -> {
+            throw new IllegalStateException("test");
+        });
+        limited.execute(() -> executed.add("second"));
+
+        Thread.UncaughtExceptionHandler previousHandler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, exception) -> exceptions.add(exception));
+        try {
+            slots.remove().run();
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(previousHandler);
+        }
+
+        assertThat(exceptions).hasSize(1);
+        assertThat(executed).containsExactly("second");
+        assertThat(limited.getActiveCount()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLimitHasToBePositive() {
+        BindingExecutors.limited(Runnable::run, 0);
+    }
+}
@@ -21,19 +21,32 @@
  */
 package eu.lestard.advanced_bindings.api;
 
+import javafx.beans.Observable;
 import javafx.beans.binding.NumberBinding;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.binding.StringBinding;
+import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableFloatArray;
+import javafx.collections.ObservableIntegerArray;
 import javafx.collections.ObservableList;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static eu.lestard.assertj.javafx.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -141,6 +154,93 @@ public class CollectionBindingsTest {
         assertThat(concatList).containsExactly("a1", "z", "m", "b3", "m");
     }
 
+    @Test
+    public void testConcatListContainsInitialElements() {
+        ObservableList<String> listA = FXCollections.observableArrayList("a1", "a2");
+        ObservableList<String> listB = FXCollections.observableArrayList();
+        ObservableList<String> listC = FXCollections.observableArrayList("c1");
+
+        ObservableList<String> concatList = CollectionBindings.concat(listA, listB, listC);
+
+        assertThat(concatList).containsExactly("a1", "a2", "c1");
+        assertThat(concatList.get(2)).isEqualTo("c1");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testConcatListIsUnmodifiable() {
+        ObservableList<String> listA = FXCollections.observableArrayList("a1");
+        ObservableList<String> listB = FXCollections.observableArrayList("b1");
+
+        CollectionBindings.concat(listA, listB).add("c1");
+    }
+
+    @Test
+    public void testConcatListForwardsShiftedChanges() {
+        ObservableList<String> listA = FXCollections.observableArrayList("a1", "a2");
+        ObservableList<String> listB = FXCollections.observableArrayList("b1", "b3", "b2");
+
+        ObservableList<String> concatList = CollectionBindings.concat(listA, listB);
+
+        List<String> changes = new ArrayList<>();
+        concatList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    changes.add("permutated " + change.getFrom() + "-" + change.getTo() + " " + change.getPermutation(3));
+                } else if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getRemoved() + " by " + change.getAddedSubList() + " at " + change.getFrom());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getAddedSubList() + " at " + change.getFrom());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getRemoved() + " at " + change.getFrom());
+                }
+            }
+        });
+
+        listB.add("b4");
+        assertThat(changes).containsExactly("added [b4] at 5");
+        changes.clear();
+
+        listA.remove("a1");
+        assertThat(changes).containsExactly("removed [a1] at 0");
+        changes.clear();
+
+        listB.set(0, "b0");
+        assertThat(changes).containsExactly("replaced [b1] by [b0] at 1");
+        changes.clear();
+
+        FXCollections.sort(listB);
+        assertThat(changes).containsExactly("permutated 1-5 2");
+        assertThat(concatList).containsExactly("a2", "b0", "b2", "b3", "b4");
+    }
+
+    @Test
+    public void testConcatListWithTheSameListMultipleTimes() {
+        ObservableList<String> listA = FXCollections.observableArrayList("a1");
+        ObservableList<String> listB = FXCollections.observableArrayList("b1");
+
+        ObservableList<String> concatList = CollectionBindings.concat(listA, listB, listA);
+
+        List<String> mirrored = new ArrayList<>(concatList);
+        concatList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    mirrored.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                }
+                if (change.wasAdded()) {
+                    mirrored.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+
+        listA.add("a2");
+        assertThat(concatList).containsExactly("a1", "a2", "b1", "a1", "a2");
+        assertThat(mirrored).containsExactly("a1", "a2", "b1", "a1", "a2");
+
+        listA.remove(0);
+        assertThat(concatList).containsExactly("a2", "b1", "a2");
+        assertThat(mirrored).containsExactly("a2", "b1", "a2");
+    }
+
     @Test
     public void testJoinList() {
         ObservableList<Object> items = FXCollections.observableArrayList();
@@ -162,6 +262,70 @@ public class CollectionBindingsTest {
         assertThat(joined.get()).isEqualTo("A:1:interface java.lang.Runnable");
     }
 
+    @Test
+    public void testJoinListIncrementally() {
+        ObservableList<Object> items = FXCollections.observableArrayList();
+        StringProperty delimiter = new SimpleStringProperty(", ");
+        StringBinding joined = CollectionBindings.joinIncrementally(items, delimiter);
+
+        assertThat(joined.get()).isEqualTo("");
+
+        items.add("A");
+        assertThat(joined.get()).isEqualTo("A");
+
+        items.add(1);
+        assertThat(joined.get()).isEqualTo("A, 1");
+
+        items.add(Runnable.class);
+        assertThat(joined.get()).isEqualTo("A, 1, interface java.lang.Runnable");
+
+        delimiter.set(":");
+        assertThat(joined.get()).isEqualTo("A:1:interface java.lang.Runnable");
+
+        items.set(1, null);
+        assertThat(joined.get()).isEqualTo("A:null:interface java.lang.Runnable");
+
+        items.remove(0, 2);
+        assertThat(joined.get()).isEqualTo("interface java.lang.Runnable");
+    }
+
+    @Test
+    public void testJoinListIncrementallyOnlyConvertsChangedElements() {
+        AtomicInteger conversions = new AtomicInteger();
+        class Item {
+            private final String name;
+
+            Item(String name) {
+                this.name = name;
+            }
+
+            @Override
+            public String toString() {
+                conversions.incrementAndGet();
+                return name;
+            }
+        }
+
+        ObservableList<Item> items = FXCollections.observableArrayList(new Item("c"), new Item("a"), new Item("b"));
+        StringProperty delimiter = new SimpleStringProperty("-");
+        StringBinding joined = CollectionBindings.joinIncrementally(items, delimiter);
+
+        assertThat(joined.get()).isEqualTo("c-a-b");
+
+        conversions.set(0);
+
+        items.add(new Item("d"));
+        assertThat(joined.get()).isEqualTo("c-a-b-d");
+
+        delimiter.set("+");
+        assertThat(joined.get()).isEqualTo("c+a+b+d");
+
+        FXCollections.sort(items, (x, y) -> x.name.compareTo(y.name));
+        assertThat(joined.get()).isEqualTo("a+b+c+d");
+
+        assertThat(conversions.get()).isEqualTo(1);
+    }
+
     @Test
     public void testReducingListWithDefaultValue() {
         ObservableList<Number> numbers = FXCollections.observableArrayList();
@@ -256,6 +420,103 @@ public class CollectionBindingsTest {
         assertThat(result).hasValue("n=34");
     }
 
+    @Test
+    public void testReducingIncrementallyWithDefaultValue() {
+        ObservableList<Number> numbers = FXCollections.observableArrayList();
+        ObjectProperty<BinaryOperator<Number>> reducer = new SimpleObjectProperty<>((n1, n2) -> n1.intValue() + n2.intValue());
+        ObjectBinding<Number> result = CollectionBindings.reducingIncrementally(numbers, 0, reducer);
+
+        assertThat(result).hasValue(0);
+
+        numbers.addAll(1, 2, 3, 5, 8, 13, 21);
+
+        assertThat(result).hasValue(53);
+
+        numbers.add(34);
+
+        assertThat(result).hasValue(87);
+
+        reducer.set((n1, n2) -> n2.intValue());
+
+        assertThat(result).hasValue(34);
+
+        numbers.clear();
+
+        assertThat(result).hasValue(0);
+    }
+
+    @Test
+    public void testReduceAndMapIncrementallyWithSupplier() {
+        ObservableList<Number> numbers = FXCollections.observableArrayList();
+        ObjectProperty<BinaryOperator<Number>> reducer = new SimpleObjectProperty<>((n1, n2) -> n1.intValue() + n2.intValue());
+        ObjectProperty<Function<Number, String>> mapper = new SimpleObjectProperty<>(String::valueOf);
+        ObjectBinding<String> result = CollectionBindings.reduceAndMapIncrementally(numbers, reducer, mapper, () -> 0);
+
+        assertThat(result).hasValue("0");
+
+        numbers.addAll(1, 2, 3, 5, 8, 13, 21);
+
+        assertThat(result).hasValue("53");
+
+        reducer.set((n1, n2) -> n2.intValue());
+
+        assertThat(result).hasValue("21");
+
+        mapper.set(n -> "n=" + n);
+
+        assertThat(result).hasValue("n=21");
+    }
+
+    @Test
+    public void testReducingIncrementallyKeepsTheOrderOfElements() {
+        Random random = new Random(7);
+        ObservableList<String> items = FXCollections.observableArrayList();
+        ObjectProperty<BinaryOperator<String>> reducer = new SimpleObjectProperty<>(String::concat);
+        ObjectBinding<String> result = CollectionBindings.reducingIncrementally(items, "", reducer);
+
+        for (int i = 0; i < 1000; i++) {
+            int operation = random.nextInt(5);
+            String item = String.valueOf((char) ('a' + random.nextInt(26)));
+
+            if (operation == 0 || items.isEmpty()) {
+                items.add(random.nextInt(items.size() + 1), item);
+            } else if (operation == 1) {
+                items.remove(random.nextInt(items.size()));
+            } else if (operation == 2) {
+                items.set(random.nextInt(items.size()), item);
+            } else if (operation == 3) {
+                items.addAll(item, item.toUpperCase());
+            } else {
+                FXCollections.reverse(items);
+            }
+
+            assertThat(result.get()).isEqualTo(String.join("", items));
+        }
+    }
+
+    @Test
+    public void testReducingIncrementallyOnlyRecombinesChangedPartialReductions() {
+        ObservableList<Integer> numbers = FXCollections.observableArrayList();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(i);
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        ObjectProperty<BinaryOperator<Integer>> reducer = new SimpleObjectProperty<>((a, b) -> {
+            calls.incrementAndGet();
+            return Math.max(a, b);
+        });
+        ObjectBinding<Integer> result = CollectionBindings.reducingIncrementally(numbers, 0, reducer);
+
+        assertThat(result).hasValue(9999);
+
+        calls.set(0);
+        numbers.set(5000, 20_000);
+
+        assertThat(result).hasValue(20_000);
+        assertThat(calls.get()).isLessThan(200);
+    }
+
     @Test
     public void testMinOfIntegerCollection() {
         ObservableList<Integer> numbers = FXCollections.observableArrayList();
@@ -615,4 +876,720 @@ public class CollectionBindingsTest {
 
         assertThat(average).hasValue(12.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSumAndAverageWithRemovalsAndReplacements() {
+        ObservableList<Integer> numbers = FXCollections.observableArrayList(1, 2, 3, 4);
+        NumberBinding sum = CollectionBindings.sum(numbers);
+        NumberBinding average = CollectionBindings.average(numbers, -1);
+
+        assertThat(sum).hasValue(10.0);
+        assertThat(average).hasValue(2.5);
+
+        numbers.remove(Integer.valueOf(4));
+        assertThat(sum).hasValue(6.0);
+        assertThat(average).hasValue(2.0);
+
+        numbers.set(0, 10);
+        assertThat(sum).hasValue(15.0);
+        assertThat(average).hasValue(5.0);
+
+        numbers.setAll(7, 7);
+        assertThat(sum).hasValue(14.0);
+        assertThat(average).hasValue(7.0);
+
+        numbers.clear();
+        assertThat(sum).hasValue(0.0);
+        assertThat(average).hasValue(-1.0);
+    }
+
+    @Test
+    public void testSumWithInfiniteValues() {
+        ObservableList<Double> numbers = FXCollections.observableArrayList(1d, 2d);
+        NumberBinding sum = CollectionBindings.sum(numbers);
+
+        numbers.add(Double.POSITIVE_INFINITY);
+        assertThat(sum).hasValue(Double.POSITIVE_INFINITY);
+
+        numbers.add(Double.NEGATIVE_INFINITY);
+        assertThat(sum.doubleValue()).isNaN();
+
+        numbers.removeAll(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+        assertThat(sum).hasValue(3.0);
+    }
+
+    @Test
+    public void testSumThatExceedsTheRangeOfDouble() {
+        ObservableList<Double> numbers = FXCollections.observableArrayList(Double.MAX_VALUE, Double.MAX_VALUE);
+        NumberBinding sum = CollectionBindings.sum(numbers);
+        NumberBinding average = CollectionBindings.average(numbers, 0);
+
+        assertThat(sum).hasValue(Double.POSITIVE_INFINITY);
+        assertThat(average).hasValue(Double.POSITIVE_INFINITY);
+
+        numbers.remove(1);
+        assertThat(sum).hasValue(Double.MAX_VALUE);
+        assertThat(average).hasValue(Double.MAX_VALUE);
+
+        numbers.addAll(-Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE);
+        assertThat(sum).hasValue(Double.NEGATIVE_INFINITY);
+
+        numbers.removeAll(-Double.MAX_VALUE);
+        numbers.add(1d);
+        assertThat(sum).hasValue(Double.MAX_VALUE);
+
+        numbers.remove(Double.MAX_VALUE);
+        assertThat(sum).hasValue(1.0);
+    }
+
+    @Test
+    public void testSumThatExceedsTheRangeOfDoubleInLargeLists() {
+        ObservableList<Double> numbers = FXCollections.observableArrayList();
+        NumberBinding sum = CollectionBindings.sum(numbers);
+
+        numbers.addAll(Collections.nCopies(100_000, Double.MAX_VALUE / 10));
+        assertThat(sum).hasValue(Double.POSITIVE_INFINITY);
+
+        numbers.remove(10, numbers.size());
+        assertThat(sum.doubleValue()).isCloseTo(Double.MAX_VALUE, offset(Math.ulp(Double.MAX_VALUE)));
+    }
+
+    @Test
+    public void testSumDoesNotDriftAfterManyChanges() {
+        ObservableList<Double> numbers = FXCollections.observableArrayList(1e16);
+        NumberBinding sum = CollectionBindings.sum(numbers);
+
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(1d);
+        }
+
+        numbers.remove(0);
+
+        assertThat(sum).hasValue(1000.0);
+    }
+
+    @Test
+    public void testAggregatesOfIntegerArray() {
+        ObservableIntegerArray numbers = FXCollections.observableIntegerArray();
+        NumberBinding min = CollectionBindings.min(numbers, 0);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+        NumberBinding sum = CollectionBindings.sum(numbers);
+        NumberBinding average = CollectionBindings.average(numbers, 0);
+
+        assertThat(min).hasValue(0.0);
+        assertThat(max).hasValue(0.0);
+        assertThat(sum).hasValue(0.0);
+        assertThat(average).hasValue(0.0);
+
+        numbers.addAll(4, 2, 9, 5);
+        assertThat(min).hasValue(2.0);
+        assertThat(max).hasValue(9.0);
+        assertThat(sum).hasValue(20.0);
+        assertThat(average).hasValue(5.0);
+
+        numbers.set(2, 1);
+        assertThat(min).hasValue(1.0);
+        assertThat(max).hasValue(5.0);
+        assertThat(sum).hasValue(12.0);
+        assertThat(average).hasValue(3.0);
+
+        numbers.resize(2);
+        assertThat(min).hasValue(2.0);
+        assertThat(max).hasValue(4.0);
+        assertThat(sum).hasValue(6.0);
+        assertThat(average).hasValue(3.0);
+
+        numbers.setAll(-3, 3, 6);
+        assertThat(min).hasValue(-3.0);
+        assertThat(max).hasValue(6.0);
+        assertThat(sum).hasValue(6.0);
+        assertThat(average).hasValue(2.0);
+
+        numbers.clear();
+        assertThat(min).hasValue(0.0);
+        assertThat(max).hasValue(0.0);
+        assertThat(sum).hasValue(0.0);
+        assertThat(average).hasValue(0.0);
+    }
+
+    @Test
+    public void testAggregatesOfFloatArray() {
+        ObservableFloatArray numbers = FXCollections.observableFloatArray(1.5f, 2.5f);
+        NumberBinding min = CollectionBindings.min(numbers, 0);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+        NumberBinding sum = CollectionBindings.sum(numbers);
+        NumberBinding average = CollectionBindings.average(numbers, 0);
+
+        assertThat(min).hasValue(1.5);
+        assertThat(max).hasValue(2.5);
+        assertThat(sum).hasValue(4.0);
+        assertThat(average).hasValue(2.0);
+
+        numbers.addAll(Float.NaN);
+        assertThat(min.doubleValue()).isNaN();
+        assertThat(max.doubleValue()).isNaN();
+        assertThat(sum.doubleValue()).isNaN();
+
+        numbers.set(2, 8f);
+        assertThat(min).hasValue(1.5);
+        assertThat(max).hasValue(8.0);
+        assertThat(sum).hasValue(12.0);
+        assertThat(average).hasValue(4.0);
+    }
+
+    @Test
+    public void testAggregatesOfArraysWithSupplier() {
+        AtomicInteger defaultValue = new AtomicInteger(-1);
+        ObservableIntegerArray integers = FXCollections.observableIntegerArray();
+        ObservableFloatArray floats = FXCollections.observableFloatArray();
+
+        NumberBinding min = CollectionBindings.min(integers, defaultValue::get);
+        NumberBinding max = CollectionBindings.max(floats, defaultValue::get);
+        NumberBinding average = CollectionBindings.average(integers, defaultValue::get);
+
+        assertThat(min).hasValue(-1.0);
+        assertThat(max).hasValue(-1.0);
+        assertThat(average).hasValue(-1.0);
+
+        integers.addAll(4, 8);
+        floats.addAll(1.5f, 2.5f);
+        assertThat(min).hasValue(4.0);
+        assertThat(max).hasValue(2.5);
+        assertThat(average).hasValue(6.0);
+
+        defaultValue.set(-2);
+        integers.clear();
+        floats.clear();
+        assertThat(min).hasValue(-2.0);
+        assertThat(max).hasValue(-2.0);
+        assertThat(average).hasValue(-2.0);
+    }
+
+    @Test
+    public void testAggregatesOfIntegerArrayMatchFullScanAfterRandomChanges() {
+        Random random = new Random(3);
+        ObservableIntegerArray numbers = FXCollections.observableIntegerArray();
+        NumberBinding min = CollectionBindings.min(numbers, 0);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+        NumberBinding sum = CollectionBindings.sum(numbers);
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+
+            if (operation == 0 || numbers.size() == 0) {
+                numbers.addAll(random.nextInt(1000), random.nextInt(1000));
+            } else if (operation == 1) {
+                numbers.set(random.nextInt(numbers.size()), random.nextInt(1000));
+            } else if (operation == 2) {
+                numbers.resize(random.nextInt(numbers.size()));
+            } else {
+                numbers.set(0, new int[]{random.nextInt(1000)}, 0, 1);
+            }
+
+            int[] values = numbers.toArray(null);
+            assertThat(min.doubleValue()).isEqualTo(IntStream.of(values).min().orElse(0));
+            assertThat(max.doubleValue()).isEqualTo(IntStream.of(values).max().orElse(0));
+            assertThat(sum.doubleValue()).isEqualTo(IntStream.of(values).sum());
+        }
+    }
+
+    @Test
+    public void testMinAndMaxWhenExtremumIsRemoved() {
+        ObservableList<Integer> numbers = FXCollections.observableArrayList(5, 1, 9, 1, 9);
+        NumberBinding min = CollectionBindings.min(numbers, 0);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+
+        assertThat(min).hasValue(1.0);
+        assertThat(max).hasValue(9.0);
+
+        // duplicates of the extremum are still present
+        numbers.remove(Integer.valueOf(1));
+        numbers.remove(Integer.valueOf(9));
+        assertThat(min).hasValue(1.0);
+        assertThat(max).hasValue(9.0);
+
+        numbers.remove(Integer.valueOf(1));
+        numbers.remove(Integer.valueOf(9));
+        assertThat(min).hasValue(5.0);
+        assertThat(max).hasValue(5.0);
+
+        numbers.set(0, 3);
+        assertThat(min).hasValue(3.0);
+        assertThat(max).hasValue(3.0);
+
+        numbers.clear();
+        assertThat(min).hasValue(0.0);
+        assertThat(max).hasValue(0.0);
+    }
+
+    @Test
+    public void testMinAndMaxWithSetAllAndPermutation() {
+        ObservableList<Double> numbers = FXCollections.observableArrayList(3d, 7d, -2d);
+        NumberBinding min = CollectionBindings.min(numbers, 0);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+
+        FXCollections.sort(numbers);
+        assertThat(min).hasValue(-2.0);
+        assertThat(max).hasValue(7.0);
+
+        numbers.setAll(10d, 20d);
+        assertThat(min).hasValue(10.0);
+        assertThat(max).hasValue(20.0);
+    }
+
+    @Test
+    public void testMinAndMaxWithNaN() {
+        ObservableList<Double> numbers = FXCollections.observableArrayList(1d, 2d);
+        NumberBinding min = CollectionBindings.min(numbers, 0);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+
+        numbers.add(Double.NaN);
+        assertThat(min.doubleValue()).isNaN();
+        assertThat(max.doubleValue()).isNaN();
+
+        numbers.remove(Double.NaN);
+        assertThat(min).hasValue(1.0);
+        assertThat(max).hasValue(2.0);
+    }
+
+    @Test
+    public void testMinAndMaxWithUpdatesOfAnExtractorList() {
+        ObservableList<MutableNumber> numbers = FXCollections.observableArrayList(n -> new Observable[]{n.value});
+        numbers.addAll(new MutableNumber(4), new MutableNumber(8));
+
+        NumberBinding min = CollectionBindings.min(numbers, 0);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+
+        assertThat(min).hasValue(4.0);
+        assertThat(max).hasValue(8.0);
+
+        numbers.get(0).value.set(12);
+        assertThat(min).hasValue(8.0);
+        assertThat(max).hasValue(12.0);
+    }
+
+    @Test
+    public void testAggregatesWithPermutationsAndUpdatesOfAnExtractorList() {
+        ObservableList<MutableNumber> numbers = FXCollections.observableArrayList(n -> new Observable[]{n.value});
+        numbers.addAll(new MutableNumber(4), new MutableNumber(8), new MutableNumber(1));
+
+        CollectionBindings.Aggregates aggregates = CollectionBindings.aggregates(numbers);
+
+        FXCollections.sort(numbers, Comparator.comparingDouble(MutableNumber::doubleValue));
+        numbers.get(2).value.set(2);
+        assertThat(aggregates.min()).hasValue(1.0);
+        assertThat(aggregates.max()).hasValue(4.0);
+        assertThat(aggregates.sum()).hasValue(7.0);
+
+        numbers.get(0).value.set(-5);
+        assertThat(aggregates.min()).hasValue(-5.0);
+        assertThat(aggregates.sum()).hasValue(1.0);
+    }
+
+    @Test
+    public void testAggregatesSkipNullElements() {
+        ObservableList<Double> numbers = FXCollections.observableArrayList(1d, null, 2d);
+        CollectionBindings.Aggregates aggregates = CollectionBindings.aggregates(numbers);
+
+        assertThat(aggregates.sum()).hasValue(3.0);
+        assertThat(aggregates.max()).hasValue(2.0);
+
+        numbers.add(0, null);
+        numbers.set(2, 5d);
+        assertThat(aggregates.sum()).hasValue(8.0);
+        assertThat(aggregates.max()).hasValue(5.0);
+
+        numbers.set(1, null);
+        assertThat(aggregates.sum()).hasValue(7.0);
+        assertThat(aggregates.min()).hasValue(2.0);
+    }
+
+    @Test
+    public void testSumMatchesFullRescanAfterRandomUpdates() {
+        Random random = new Random(7);
+        ObservableList<MutableNumber> numbers = FXCollections.observableArrayList(n -> new Observable[]{n.value});
+        NumberBinding sum = CollectionBindings.sum(numbers);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(5);
+
+            if (operation == 0 || numbers.isEmpty()) {
+                numbers.add(random.nextInt(numbers.size() + 1), new MutableNumber(random.nextInt(100)));
+            } else if (operation == 1) {
+                numbers.remove(random.nextInt(numbers.size()));
+            } else if (operation == 2) {
+                FXCollections.shuffle(numbers, random);
+            } else {
+                numbers.get(random.nextInt(numbers.size())).value.set(random.nextInt(100));
+            }
+
+            assertThat(sum).hasValue(numbers.stream().mapToDouble(Number::doubleValue).sum());
+            assertThat(max).hasValue(numbers.stream().mapToDouble(Number::doubleValue).max().orElse(0));
+        }
+    }
+
+    @Test
+    public void testMinAndMaxMatchFullRescanAfterRandomChanges() {
+        Random random = new Random(42);
+        ObservableList<Integer> numbers = FXCollections.observableArrayList();
+        NumberBinding min = CollectionBindings.min(numbers, 0);
+        NumberBinding max = CollectionBindings.max(numbers, 0);
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+
+            if (operation == 0 || numbers.isEmpty()) {
+                numbers.add(random.nextInt(100));
+            } else if (operation == 1) {
+                numbers.remove(random.nextInt(numbers.size()));
+            } else if (operation == 2) {
+                numbers.set(random.nextInt(numbers.size()), random.nextInt(100));
+            } else {
+                numbers.addAll(random.nextInt(100), random.nextInt(100));
+            }
+
+            assertThat(min.doubleValue()).isEqualTo(numbers.stream().mapToDouble(Number::doubleValue).min().orElse(0));
+            assertThat(max.doubleValue()).isEqualTo(numbers.stream().mapToDouble(Number::doubleValue).max().orElse(0));
+        }
+    }
+
+    @Test
+    public void testFullRecomputationsAboveTheParallelThreshold() {
+        Random random = new Random(7);
+
+        List<Double> initialValues = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            initialValues.add(random.nextDouble() * 1000 - 500);
+        }
+        ObservableList<Double> numbers = FXCollections.observableArrayList(initialValues);
+
+        ObjectProperty<BinaryOperator<Double>> reducer = new SimpleObjectProperty<>(Double::sum);
+
+        int previousThreshold = CollectionBindings.getParallelThreshold();
+        CollectionBindings.setParallelThreshold(1000);
+        try {
+            NumberBinding min = CollectionBindings.min(numbers, 0);
+            NumberBinding max = CollectionBindings.max(numbers, 0);
+            NumberBinding sum = CollectionBindings.sum(numbers);
+            NumberBinding average = CollectionBindings.average(numbers, 0);
+            ObjectBinding<Double> reducing = CollectionBindings.reducing(numbers, 0.0, reducer);
+            ObjectBinding<Double> reducingIncrementally = CollectionBindings.reducingIncrementally(numbers, 0.0, reducer);
+
+            for (int round = 0; round < 3; round++) {
+                double expectedSum = numbers.stream().mapToDouble(Double::doubleValue).sum();
+
+                assertThat(min.doubleValue()).isEqualTo(numbers.stream().mapToDouble(Double::doubleValue).min().getAsDouble());
+                assertThat(max.doubleValue()).isEqualTo(numbers.stream().mapToDouble(Double::doubleValue).max().getAsDouble());
+                assertThat(sum.doubleValue()).isEqualTo(expectedSum, offset(1e-6));
+                assertThat(average.doubleValue()).isEqualTo(expectedSum / numbers.size(), offset(1e-9));
+
+                reducer.set(Double::sum);
+                assertThat(reducing.get()).isEqualTo(expectedSum, offset(1e-6));
+                assertThat(reducingIncrementally.get()).isEqualTo(expectedSum, offset(1e-6));
+
+                reducer.set(Math::max);
+                assertThat(reducing.get()).isEqualTo(max.doubleValue());
+                assertThat(reducingIncrementally.get()).isEqualTo(max.doubleValue());
+
+                List<Double> newValues = new ArrayList<>();
+                for (int i = 0; i < 50_000 + random.nextInt(50_000); i++) {
+                    newValues.add((double) random.nextInt(2000) - 1000);
+                }
+                numbers.setAll(newValues);
+            }
+
+            numbers.add(Double.NaN);
+            assertThat(min.doubleValue()).isNaN();
+            assertThat(sum.doubleValue()).isNaN();
+        } finally {
+            CollectionBindings.setParallelThreshold(previousThreshold);
+        }
+    }
+
+    @Test
+    public void testFullRecomputationsOfArraysAboveTheParallelThreshold() {
+        Random random = new Random(11);
+
+        int[] values = new int[80_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1_000_000) - 500_000;
+        }
+        ObservableIntegerArray numbers = FXCollections.observableIntegerArray(values);
+
+        int previousThreshold = CollectionBindings.getParallelThreshold();
+        CollectionBindings.setParallelThreshold(1000);
+        try {
+            NumberBinding min = CollectionBindings.min(numbers, 0);
+            NumberBinding max = CollectionBindings.max(numbers, 0);
+            NumberBinding sum = CollectionBindings.sum(numbers);
+
+            assertThat(min.doubleValue()).isEqualTo(IntStream.of(numbers.toArray(null)).min().getAsInt());
+            assertThat(max.doubleValue()).isEqualTo(IntStream.of(numbers.toArray(null)).max().getAsInt());
+            assertThat(sum.doubleValue()).isEqualTo(IntStream.of(numbers.toArray(null)).asLongStream().sum());
+
+            // removing the minimum forces a rebuild of the extremes
+            int[] current = numbers.toArray(null);
+            int minIndex = 0;
+            for (int i = 1; i < current.length; i++) {
+                if (current[i] < current[minIndex]) {
+                    minIndex = i;
+                }
+            }
+            numbers.set(minIndex, 0);
+            assertThat(min.doubleValue()).isEqualTo(IntStream.of(numbers.toArray(null)).min().getAsInt());
+
+            numbers.setAll(3, 1, 2);
+            assertThat(min.doubleValue()).isEqualTo(1);
+            assertThat(max.doubleValue()).isEqualTo(3);
+            assertThat(sum.doubleValue()).isEqualTo(6);
+        } finally {
+            CollectionBindings.setParallelThreshold(previousThreshold);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelThresholdHasToBePositive() {
+        CollectionBindings.setParallelThreshold(0);
+    }
+
+    @Test
+    public void testAggregates() {
+        ObservableList<Number> numbers = FXCollections.observableArrayList();
+
+        CollectionBindings.Aggregates aggregates = CollectionBindings.aggregates(numbers);
+
+        assertThat(aggregates.min().doubleValue()).isNaN();
+        assertThat(aggregates.max().doubleValue()).isNaN();
+        assertThat(aggregates.sum().doubleValue()).isEqualTo(0.0);
+        assertThat(aggregates.average().doubleValue()).isNaN();
+
+        numbers.addAll(3, 1, 8);
+
+        assertThat(aggregates.min().doubleValue()).isEqualTo(1.0);
+        assertThat(aggregates.max().doubleValue()).isEqualTo(8.0);
+        assertThat(aggregates.sum().doubleValue()).isEqualTo(12.0);
+        assertThat(aggregates.average().doubleValue()).isEqualTo(4.0);
+
+        numbers.remove(Integer.valueOf(8));
+
+        assertThat(aggregates.max().doubleValue()).isEqualTo(3.0);
+        assertThat(aggregates.sum().doubleValue()).isEqualTo(4.0);
+        assertThat(aggregates.average().doubleValue()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void testAggregatesAreConsistentForObserversOfASingleAggregate() {
+        ObservableList<Number> numbers = FXCollections.observableArrayList(1, 2);
+
+        CollectionBindings.Aggregates aggregates = CollectionBindings.aggregates(numbers);
+
+        List<String> seen = new ArrayList<>();
+        aggregates.max().addListener((observable, oldValue, newValue) ->
+                seen.add(aggregates.min().doubleValue() + " " + newValue + " " + aggregates.sum().doubleValue()));
+
+        numbers.setAll(5, 6, 7);
+        numbers.add(0, 0);
+
+        assertThat(seen).containsExactly("5.0 7.0 18.0");
+
+        numbers.add(10);
+        assertThat(seen).containsExactly("5.0 7.0 18.0", "0.0 10.0 28.0");
+    }
+
+    @Test
+    public void testStatistics() {
+        ObservableList<Number> numbers = FXCollections.observableArrayList();
+
+        CollectionBindings.Statistics statistics = CollectionBindings.statistics(numbers);
+
+        assertThat(statistics.mean().get()).isNaN();
+        assertThat(statistics.variance().get()).isNaN();
+        assertThat(statistics.range().get()).isNaN();
+
+        numbers.addAll(2, 4, 4, 4, 5, 5, 7, 9);
+
+        assertThat(statistics.mean()).hasValue(5.0);
+        assertThat(statistics.variance()).hasValue(4.0);
+        assertThat(statistics.sampleVariance().get()).isEqualTo(32.0 / 7, offset(1e-12));
+        assertThat(statistics.standardDeviation()).hasValue(2.0);
+        assertThat(statistics.min()).hasValue(2.0);
+        assertThat(statistics.max()).hasValue(9.0);
+        assertThat(statistics.range()).hasValue(7.0);
+
+        numbers.removeAll(2, 9);
+
+        assertThat(statistics.mean().get()).isEqualTo(29.0 / 6, offset(1e-12));
+        assertThat(statistics.variance().get()).isEqualTo(41.0 / 36, offset(1e-12));
+        assertThat(statistics.range()).hasValue(3.0);
+
+        numbers.add(Double.NaN);
+        assertThat(statistics.mean().get()).isNaN();
+        assertThat(statistics.standardDeviation().get()).isNaN();
+        assertThat(statistics.max().get()).isNaN();
+
+        numbers.remove(numbers.size() - 1);
+        assertThat(statistics.mean().get()).isEqualTo(29.0 / 6, offset(1e-12));
+
+        numbers.setAll(3);
+        assertThat(statistics.variance()).hasValue(0.0);
+        assertThat(statistics.sampleVariance().get()).isNaN();
+
+        numbers.clear();
+        assertThat(statistics.mean().get()).isNaN();
+        assertThat(statistics.standardDeviation().get()).isNaN();
+    }
+
+    @Test
+    public void testStatisticsMatchFullRescanAfterRandomChanges() {
+        Random random = new Random(3);
+
+        ObservableList<Double> numbers = FXCollections.observableArrayList();
+        CollectionBindings.Statistics statistics = CollectionBindings.statistics(numbers);
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+
+            if (operation == 0 || numbers.isEmpty()) {
+                numbers.add(1e6 + random.nextGaussian() * 10);
+            } else if (operation == 1) {
+                numbers.remove(random.nextInt(numbers.size()));
+            } else {
+                numbers.set(random.nextInt(numbers.size()), 1e6 + random.nextGaussian() * 10);
+            }
+
+            if (numbers.isEmpty()) {
+                continue;
+            }
+
+            double mean = numbers.stream().mapToDouble(Double::doubleValue).average().getAsDouble();
+            double variance = numbers.stream().mapToDouble(value -> (value - mean) * (value - mean)).sum() / numbers.size();
+
+            assertThat(statistics.mean().get()).isEqualTo(mean, offset(1e-6));
+            assertThat(statistics.variance().get()).isEqualTo(variance, offset(1e-4));
+            assertThat(statistics.range().get()).isEqualTo(numbers.stream().mapToDouble(Double::doubleValue).max().getAsDouble()
+                    - numbers.stream().mapToDouble(Double::doubleValue).min().getAsDouble());
+        }
+    }
+
+    @Test
+    public void testMedian() {
+        ObservableList<Number> numbers = FXCollections.observableArrayList();
+
+        NumberBinding median = CollectionBindings.median(numbers);
+        assertThat(median.doubleValue()).isNaN();
+
+        numbers.addAll(5, 1, 3);
+        assertThat(median).hasValue(3.0);
+
+        numbers.add(10);
+        assertThat(median).hasValue(4.0);
+
+        numbers.addAll(1, 1);
+        assertThat(median).hasValue(2.0);
+
+        numbers.remove(Integer.valueOf(3));
+        assertThat(median).hasValue(1.0);
+
+        numbers.add(Double.NaN);
+        assertThat(median.doubleValue()).isNaN();
+    }
+
+    @Test
+    public void testPercentile() {
+        ObservableList<Number> numbers = FXCollections.observableArrayList(15, 20, 35, 40, 50);
+        DoubleProperty p = new SimpleDoubleProperty(0);
+
+        NumberBinding percentile = CollectionBindings.percentile(numbers, p);
+        assertThat(percentile).hasValue(15.0);
+
+        p.set(100);
+        assertThat(percentile).hasValue(50.0);
+
+        p.set(40);
+        assertThat(percentile).hasValue(29.0);
+
+        p.set(75);
+        numbers.add(60);
+        assertThat(percentile).hasValue(47.5);
+
+        p.set(101);
+        assertThat(percentile.doubleValue()).isNaN();
+
+        p.set(Double.NaN);
+        assertThat(percentile.doubleValue()).isNaN();
+    }
+
+    @Test
+    public void testPercentilesMatchSortedListAfterRandomChanges() {
+        Random random = new Random(5);
+
+        ObservableList<Integer> numbers = FXCollections.observableArrayList();
+        DoubleProperty p = new SimpleDoubleProperty();
+
+        NumberBinding median = CollectionBindings.median(numbers);
+        NumberBinding percentile = CollectionBindings.percentile(numbers, p);
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+
+            if (operation == 0 || numbers.isEmpty()) {
+                numbers.add(random.nextInt(50));
+            } else if (operation == 1) {
+                numbers.remove(random.nextInt(numbers.size()));
+            } else if (operation == 2) {
+                numbers.set(random.nextInt(numbers.size()), random.nextInt(50));
+            } else {
+                numbers.addAll(random.nextInt(50), random.nextInt(50));
+            }
+            p.set(random.nextInt(101));
+
+            if (numbers.isEmpty()) {
+                continue;
+            }
+
+            List<Integer> sorted = new ArrayList<>(numbers);
+            sorted.sort(null);
+
+            assertThat(median.doubleValue()).isEqualTo(expectedPercentile(sorted, 50), offset(1e-9));
+            assertThat(percentile.doubleValue()).isEqualTo(expectedPercentile(sorted, p.get()), offset(1e-9));
+        }
+    }
+
+    private static double expectedPercentile(List<Integer> sorted, double p) {
+        double rank = p / 100 * (sorted.size() - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sorted.get(lower) + (sorted.get(upper) - sorted.get(lower)) * (rank - lower);
+    }
+
+    private static class MutableNumber extends Number {
+        private static final long serialVersionUID = 1L;
+
+        private final DoubleProperty value;
+
+        MutableNumber(double value) {
+            this.value = new SimpleDoubleProperty(value);
+        }
+
+        @Override
+        public int intValue() {
+            return value.intValue();
+        }
+
+        @Override
+        public long longValue() {
+            return value.longValue();
+        }
+
+        @Override
+        public float floatValue() {
+            return value.floatValue();
+        }
+
+        @Override
+        public double doubleValue() {
+            return value.get();
+        }
+    }
+}
@@ -22,11 +22,21 @@
 package eu.lestard.advanced_bindings.api;
 
 import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.IntegerBinding;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import org.junit.Test;
 
-import static eu.lestard.assertj.javafx.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static eu.lestard.assertj.javafx.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class LogicBindingsTest {
 
@@ -86,4 +96,286 @@ public class LogicBindingsTest {
         b.set(true);
         assertThat(or).isTrue();
     }
+
+    @Test
+    public void testNullIsTreatedAsFalse(){
+        ObjectProperty<Boolean> a = new SimpleObjectProperty<>(null);
+        BooleanProperty b = new SimpleBooleanProperty(true);
+
+        BooleanBinding and = LogicBindings.and(a, b);
+        BooleanBinding or = LogicBindings.or(a, b);
+
+        assertThat(and).isFalse();
+        assertThat(or).isTrue();
+
+        a.set(true);
+        assertThat(and).isTrue();
+
+        a.set(null);
+        assertThat(and).isFalse();
+
+        b.set(false);
+        assertThat(or).isFalse();
+
+        a.set(false);
+        assertThat(or).isFalse();
+    }
+
+    @Test
+    public void testWithoutValues(){
+        assertThat(LogicBindings.and()).isTrue();
+        assertThat(LogicBindings.or()).isFalse();
+    }
+
+    @Test
+    public void testManyValues(){
+        List<ObservableValue<Boolean>> values = new ArrayList<>();
+        List<BooleanProperty> properties = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            BooleanProperty property = new SimpleBooleanProperty(true);
+            properties.add(property);
+            values.add(property);
+        }
+
+        BooleanBinding and = LogicBindings.and(values);
+        BooleanBinding or = LogicBindings.or(values);
+        assertThat(and).isTrue();
+
+        properties.get(1234).set(false);
+        assertThat(and).isFalse();
+        assertThat(or).isTrue();
+
+        properties.forEach(property -> property.set(false));
+        assertThat(or).isFalse();
+
+        properties.get(4999).set(true);
+        assertThat(or).isTrue();
+        assertThat(and).isFalse();
+    }
+
+    @Test
+    public void testInvalidationOnlyWhenTheResultChanges(){
+        BooleanProperty a = new SimpleBooleanProperty(false);
+        BooleanProperty b = new SimpleBooleanProperty(false);
+        BooleanProperty c = new SimpleBooleanProperty(false);
+
+        BooleanBinding and = LogicBindings.and(a, b, c);
+        List<Boolean> invalidations = new ArrayList<>();
+        and.addListener(observable -> invalidations.add(true));
+        and.get();
+
+        a.set(true);
+        b.set(true);
+        assertThat(invalidations).isEmpty();
+
+        c.set(true);
+        assertThat(invalidations).hasSize(1);
+        assertThat(and).isTrue();
+    }
+
+    @Test
+    public void testDispose(){
+        BooleanProperty a = new SimpleBooleanProperty(false);
+
+        BooleanBinding or = LogicBindings.or(a);
+        assertThat(new ArrayList<Object>(or.getDependencies())).containsExactly(a);
+
+        or.dispose();
+        a.set(true);
+        assertThat(or).isFalse();
+    }
+
+    @Test
+    public void testNONE(){
+        BooleanProperty a = new SimpleBooleanProperty(false);
+        BooleanProperty b = new SimpleBooleanProperty(false);
+
+        BooleanBinding none = LogicBindings.none(a, b);
+        assertThat(none).isTrue();
+
+        b.set(true);
+        assertThat(none).isFalse();
+    }
+
+    @Test
+    public void testListMembership(){
+        BooleanProperty a = new SimpleBooleanProperty(true);
+        BooleanProperty b = new SimpleBooleanProperty(false);
+        BooleanProperty c = new SimpleBooleanProperty(true);
+
+        ObservableList<BooleanProperty> values = FXCollections.observableArrayList(a);
+
+        BooleanBinding and = LogicBindings.allOf(values);
+        BooleanBinding or = LogicBindings.anyOf(values);
+        BooleanBinding none = LogicBindings.noneOf(values);
+        IntegerBinding countTrue = LogicBindings.countTrue(values);
+
+        assertThat(and).isTrue();
+        assertThat(countTrue).hasValue(1);
+
+        values.add(b);
+        assertThat(and).isFalse();
+        assertThat(or).isTrue();
+        assertThat(countTrue).hasValue(1);
+
+        values.add(c);
+        assertThat(countTrue).hasValue(2);
+
+        b.set(true);
+        assertThat(and).isTrue();
+        assertThat(countTrue).hasValue(3);
+
+        values.remove(a);
+        a.set(false);
+        assertThat(and).isTrue();
+        assertThat(countTrue).hasValue(2);
+
+        values.set(0, a);
+        assertThat(and).isFalse();
+        assertThat(countTrue).hasValue(1);
+
+        b.set(false);
+        assertThat(countTrue).hasValue(1);
+
+        values.setAll(a, b);
+        assertThat(or).isFalse();
+        assertThat(none).isTrue();
+
+        c.set(false);
+        a.set(true);
+        assertThat(none).isFalse();
+        assertThat(countTrue).hasValue(1);
+
+        values.clear();
+        assertThat(and).isTrue();
+        assertThat(or).isFalse();
+        assertThat(countTrue).hasValue(0);
+
+        a.set(false);
+        assertThat(countTrue).hasValue(0);
+    }
+
+    @Test
+    public void testCollectionOverloadsTakeASnapshotOfObservableLists(){
+        BooleanProperty a = new SimpleBooleanProperty(true);
+        ObservableList<BooleanProperty> values = FXCollections.observableArrayList(a);
+
+        BooleanBinding and = LogicBindings.and(values);
+        BooleanBinding or = LogicBindings.or(values);
+
+        values.add(new SimpleBooleanProperty(false));
+        assertThat(and).isTrue();
+        assertThat(or).isTrue();
+
+        values.remove(a);
+        a.set(false);
+        assertThat(and).isFalse();
+        assertThat(or).isFalse();
+    }
+
+    @Test
+    public void testListWithDuplicates(){
+        BooleanProperty a = new SimpleBooleanProperty(true);
+        ObservableList<ObservableValue<Boolean>> values = FXCollections.observableArrayList();
+        values.add(a);
+        values.add(a);
+
+        IntegerBinding countTrue = LogicBindings.countTrue(values);
+        assertThat(countTrue).hasValue(2);
+
+        values.remove(0);
+        assertThat(countTrue).hasValue(1);
+
+        a.set(false);
+        assertThat(countTrue).hasValue(0);
+
+        a.set(true);
+        assertThat(countTrue).hasValue(1);
+    }
+
+    @Test
+    public void testDisposeListBinding(){
+        BooleanProperty a = new SimpleBooleanProperty(false);
+        ObservableList<BooleanProperty> values = FXCollections.observableArrayList(a);
+
+        BooleanBinding or = LogicBindings.anyOf(values);
+        assertThat(or.getDependencies()).isSameAs(values);
+
+        or.dispose();
+        values.add(new SimpleBooleanProperty(true));
+        assertThat(or).isFalse();
+    }
+
+    @Test
+    public void testThresholds(){
+        BooleanProperty a = new SimpleBooleanProperty(false);
+        BooleanProperty b = new SimpleBooleanProperty(false);
+        BooleanProperty c = new SimpleBooleanProperty(false);
+
+        IntegerBinding countTrue = LogicBindings.countTrue(a, b, c);
+        BooleanBinding atLeastTwo = LogicBindings.atLeast(2, a, b, c);
+        BooleanBinding atMostOne = LogicBindings.atMost(1, a, b, c);
+        BooleanBinding exactlyTwo = LogicBindings.exactly(2, a, b, c);
+
+        assertThat(countTrue).hasValue(0);
+        assertThat(atLeastTwo).isFalse();
+        assertThat(atMostOne).isTrue();
+        assertThat(exactlyTwo).isFalse();
+
+        a.set(true);
+        b.set(true);
+        assertThat(countTrue).hasValue(2);
+        assertThat(atLeastTwo).isTrue();
+        assertThat(atMostOne).isFalse();
+        assertThat(exactlyTwo).isTrue();
+
+        c.set(true);
+        assertThat(countTrue).hasValue(3);
+        assertThat(atLeastTwo).isTrue();
+        assertThat(exactlyTwo).isFalse();
+
+        assertThat(LogicBindings.atLeast(0)).isTrue();
+        assertThat(LogicBindings.exactly(0)).isTrue();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeThreshold(){
+        LogicBindings.atLeast(-1, new SimpleBooleanProperty());
+    }
+
+    @Test
+    public void testMajority(){
+        BooleanProperty a = new SimpleBooleanProperty(true);
+        BooleanProperty b = new SimpleBooleanProperty(true);
+        BooleanProperty c = new SimpleBooleanProperty(false);
+        BooleanProperty d = new SimpleBooleanProperty(false);
+
+        BooleanBinding majority = LogicBindings.majority(a, b, c, d);
+        assertThat(majority).isFalse();
+
+        c.set(true);
+        assertThat(majority).isTrue();
+
+        assertThat(LogicBindings.majority(a, b, c)).isTrue();
+        assertThat(LogicBindings.majority()).isFalse();
+    }
+
+    @Test
+    public void testXOR(){
+        BooleanProperty a = new SimpleBooleanProperty(false);
+        BooleanProperty b = new SimpleBooleanProperty(false);
+        BooleanProperty c = new SimpleBooleanProperty(false);
+
+        BooleanBinding xor = LogicBindings.xor(a, b, c);
+        assertThat(xor).isFalse();
+
+        a.set(true);
+        assertThat(xor).isTrue();
+
+        b.set(true);
+        assertThat(xor).isFalse();
+
+        c.set(true);
+        assertThat(xor).isTrue();
+    }
 }
@@ -21,12 +21,27 @@
  */
 package eu.lestard.advanced_bindings.api;
 
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.FloatBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.FloatProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleFloatProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleLongProperty;
 import javafx.beans.value.ObservableDoubleValue;
 import javafx.beans.value.ObservableFloatValue;
 import javafx.beans.value.ObservableIntegerValue;
+import org.junit.Assume;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+
 import static eu.lestard.advanced_bindings.api.MathBindingsTestHelper.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
 
 /**
@@ -506,4 +521,78 @@ public class MathBindingsTest {
         testFloatArgBinding(MathBindings::ulp, Math::ulp, 0f, 1f, 102.3f, -102.3f, Float.MAX_VALUE, Float.MIN_VALUE, Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY);
     }
 
+    /**
+     * Like the bindings of JavaFX the bindings log exceptions of their function instead of throwing them.
+     */
+    @Test
+    public void testExactBindingsThatOverflow() {
+        IntegerProperty a = new SimpleIntegerProperty(Integer.MAX_VALUE - 1);
+        IntegerBinding sum = MathBindings.addExact(a, 1);
+        assertThat(sum.get()).isEqualTo(Integer.MAX_VALUE);
+
+        IntegerProperty target = new SimpleIntegerProperty(-1);
+        target.bind(sum);
+
+        a.set(Integer.MAX_VALUE);
+        assertThat(sum.get()).isEqualTo(0);
+        assertThat(target.get()).isEqualTo(0);
+
+        LongProperty b = new SimpleLongProperty(Long.MAX_VALUE);
+        assertThat(MathBindings.multiplyExact(b, 2).get()).isEqualTo(0);
+        assertThat(MathBindings.toIntExact(b).get()).isEqualTo(0);
+        assertThat(MathBindings.floorDiv(a, 0).get()).isEqualTo(0);
+    }
+
+    /**
+     * The bindings must not box their values, so recomputing them must not allocate anything.
+     * The allocated bytes are measured with the allocation counter of the current thread
+     * which is available on HotSpot based JVMs.
+     */
+    @Test
+    public void testRecomputingDoesNotAllocate() {
+        final java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        Assume.assumeTrue(allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled());
+
+        DoubleProperty x = new SimpleDoubleProperty();
+        DoubleProperty y = new SimpleDoubleProperty();
+        IntegerProperty i = new SimpleIntegerProperty();
+
+        DoubleBinding hypot = MathBindings.hypot(x, y);
+        DoubleBinding sin = MathBindings.sin(x);
+        FloatProperty f = new SimpleFloatProperty();
+        FloatBinding ulp = MathBindings.ulp(f);
+        IntegerBinding floorMod = MathBindings.floorMod(i, 7);
+
+        final int iterations = 100_000;
+        double checksum = 0;
+
+        // warm up so that the measurement doesn't include one-time allocations like class loading
+        for (int n = 0; n < iterations; n++) {
+            x.set(n);
+            y.set(-n);
+            i.set(n);
+            f.set(n);
+            checksum += hypot.get() + sin.get() + ulp.get() + floorMod.get();
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = allocationBean.getThreadAllocatedBytes(threadId);
+
+        for (int n = 0; n < iterations; n++) {
+            x.set(n + 0.5);
+            y.set(n * 1e6);
+            i.set(n + 1000);
+            f.set(n * 0.25f);
+            checksum += hypot.get() + sin.get() + ulp.get() + floorMod.get();
+        }
+
+        final long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(checksum).isNotNaN();
+        // a single boxed Double per recompute would already be several megabytes
+        assertThat(allocated).isLessThan(iterations);
+    }
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ObservableNumberValue;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static eu.lestard.assertj.javafx.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.offset;
+
+public class MathBindings_compile_Test {
+
+    @Test
+    public void testCompile() {
+        DoubleProperty x = new SimpleDoubleProperty(3);
+        DoubleProperty y = new SimpleDoubleProperty(4);
+        IntegerProperty scale = new SimpleIntegerProperty(2);
+
+        Map<String, ObservableNumberValue> variables = new HashMap<>();
+        variables.put("x", x);
+        variables.put("y", y);
+        variables.put("scale", scale);
+
+        DoubleBinding distance = MathBindings.compile("hypot(x, y) * scale", variables);
+        assertThat(distance).hasValue(10.0);
+
+        x.set(6);
+        y.set(8);
+        scale.set(3);
+        assertThat(distance).hasValue(30.0);
+
+        DoubleBinding formula = MathBindings.compile("-x^2 + 2 * (y - 1) / 4 % 3 - min(x, sqrt(y)) + cos(PI) * E", variables);
+        assertThat(formula.get()).isEqualTo(-Math.pow(6, 2) + 2 * (8 - 1) / 4.0 % 3 - Math.min(6, Math.sqrt(8)) + Math.cos(Math.PI) * Math.E, offset(1e-12));
+
+        DoubleBinding power = MathBindings.compile("2 ^ 3 ^ 2 + 1.5e1 + .5", variables);
+        assertThat(power).hasValue(512.0 + 15 + 0.5);
+    }
+
+    @Test
+    public void testBindingOnlyDependsOnItsVariables() {
+        DoubleProperty x = new SimpleDoubleProperty(1);
+
+        Map<String, ObservableNumberValue> variables = new HashMap<>();
+        variables.put("x", x);
+        variables.put("unused", new SimpleDoubleProperty());
+
+        DoubleBinding binding = MathBindings.compile("x * x + x", variables);
+
+        assertThat(binding.getDependencies()).hasSize(1);
+        assertThat(binding.getDependencies().get(0)).isSameAs(x);
+
+        x.set(3);
+        assertThat(binding).hasValue(12.0);
+
+        DoubleBinding constant = MathBindings.compile("sqrt(2 * 8) + max(1, 2)", variables);
+        assertThat(constant.getDependencies()).isEmpty();
+        assertThat(constant).hasValue(6.0);
+    }
+
+    @Test
+    public void testCompiledFormulasAreCached() {
+        assertThat(CompiledFormula.compile("a + b * 2")).isSameAs(CompiledFormula.compile("a + b * 2"));
+
+        DoubleProperty a = new SimpleDoubleProperty(1);
+        DoubleProperty b = new SimpleDoubleProperty(2);
+        Map<String, ObservableNumberValue> first = new HashMap<>();
+        first.put("a", a);
+        first.put("b", b);
+        Map<String, ObservableNumberValue> second = new HashMap<>();
+        second.put("a", b);
+        second.put("b", a);
+
+        // bindings of the same compiled formula don't share their state
+        DoubleBinding firstBinding = MathBindings.compile("a + b * 2", first);
+        DoubleBinding secondBinding = MathBindings.compile("a + b * 2", second);
+
+        assertThat(firstBinding).hasValue(5.0);
+        assertThat(secondBinding).hasValue(4.0);
+    }
+
+    @Test
+    public void testInvalidFormulas() {
+        Map<String, ObservableNumberValue> variables = new HashMap<>();
+        variables.put("x", new SimpleDoubleProperty());
+
+        assertThat(catchThrowable(() -> MathBindings.compile("x +", variables)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("position 3");
+        assertThat(catchThrowable(() -> MathBindings.compile("(x", variables)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Expected ')'");
+        assertThat(catchThrowable(() -> MathBindings.compile("foo(x)", variables)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Unknown function 'foo'");
+        assertThat(catchThrowable(() -> MathBindings.compile("hypot(x)", variables)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("Expected ','");
+        assertThat(catchThrowable(() -> MathBindings.compile("x * y", variables)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("'y'");
+    }
+}
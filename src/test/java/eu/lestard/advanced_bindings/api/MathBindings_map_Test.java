@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableFloatArray;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MathBindings_map_Test {
+
+    private ObservableFloatArray source;
+
+    private List<Double> evaluatedValues;
+    private DoubleUnaryOperator square;
+
+    @Before
+    public void setup() {
+        source = FXCollections.observableFloatArray(1, 2, 3, 4);
+
+        evaluatedValues = new ArrayList<>();
+        square = value -> {
+            evaluatedValues.add(value);
+            return value * value;
+        };
+    }
+
+    @Test
+    public void testInitialValues() {
+        ObservableFloatArray mapped = MathBindings.map(source, square);
+
+        assertThat(mapped.toArray(null)).containsExactly(1, 4, 9, 16);
+        assertThat(mapped.size()).isEqualTo(4);
+        assertThat(mapped.get(2)).isEqualTo(9);
+
+        ObservableFloatArray sines = MathBindings.map(source, Math::sin);
+        assertThat(sines.get(0)).isEqualTo((float) Math.sin(1));
+    }
+
+    @Test
+    public void testOnlyTheChangedRangeIsRecomputed() {
+        ObservableFloatArray mapped = MathBindings.map(source, square);
+        List<int[]> changes = new ArrayList<>();
+        mapped.addListener((array, sizeChanged, from, to) -> changes.add(new int[]{sizeChanged ? 1 : 0, from, to}));
+        evaluatedValues.clear();
+
+        source.set(1, new float[]{5, 6}, 0, 2);
+
+        assertThat(mapped.toArray(null)).containsExactly(1, 25, 36, 16);
+        assertThat(evaluatedValues).containsExactly(5.0, 6.0);
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0)).containsExactly(0, 1, 3);
+    }
+
+    @Test
+    public void testSizeChanges() {
+        ObservableFloatArray mapped = MathBindings.map(source, square);
+        List<int[]> changes = new ArrayList<>();
+        mapped.addListener((array, sizeChanged, from, to) -> changes.add(new int[]{sizeChanged ? 1 : 0, from, to}));
+        evaluatedValues.clear();
+
+        source.addAll(5, 6);
+        assertThat(mapped.toArray(null)).containsExactly(1, 4, 9, 16, 25, 36);
+        assertThat(evaluatedValues).containsExactly(5.0, 6.0);
+        assertThat(changes.get(0)).containsExactly(1, 4, 6);
+
+        source.resize(2);
+        assertThat(mapped.toArray(null)).containsExactly(1, 4);
+        assertThat(changes.get(1)).containsExactly(1, 2, 6);
+
+        source.setAll(7);
+        assertThat(mapped.toArray(null)).containsExactly(49);
+
+        source.clear();
+        assertThat(mapped.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testCopyToObservableArray() {
+        ObservableFloatArray mapped = MathBindings.map(source, square);
+        ObservableFloatArray target = FXCollections.observableFloatArray(0, 0, 0);
+
+        mapped.copyTo(1, target, 0, 3);
+
+        assertThat(target.toArray(null)).containsExactly(4, 9, 16);
+        assertThat(mapped.toArray(2, null, 2)).containsExactly(9, 16);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testMappedArrayIsUnmodifiable() {
+        MathBindings.map(source, square).set(0, 1);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        MathBindings.map(source, square).get(4);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.LongProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleLongProperty;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static eu.lestard.assertj.javafx.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MathBindings_saturated_Test {
+
+    @Test
+    public void testIntegerSaturation() {
+        IntegerProperty x = new SimpleIntegerProperty(Integer.MAX_VALUE - 1);
+        IntegerProperty y = new SimpleIntegerProperty(1);
+
+        MathBindings.SaturatedIntegerBinding sum = MathBindings.addSaturated(x, y);
+        assertThat(sum).hasValue(Integer.MAX_VALUE);
+        assertThat(sum.overflowed()).isFalse();
+
+        y.set(2);
+        assertThat(sum).hasValue(Integer.MAX_VALUE);
+        assertThat(sum.overflowed()).isTrue();
+
+        y.set(-2);
+        assertThat(sum).hasValue(Integer.MAX_VALUE - 3);
+        assertThat(sum.overflowed()).isFalse();
+
+        MathBindings.SaturatedIntegerBinding difference = MathBindings.subtractSaturated(-10, x);
+        assertThat(difference).hasValue(Integer.MIN_VALUE);
+        assertThat(difference.overflowed()).isTrue();
+
+        MathBindings.SaturatedIntegerBinding product = MathBindings.multiplySaturated(x, -3);
+        assertThat(product).hasValue(Integer.MIN_VALUE);
+        assertThat(product.overflowed()).isTrue();
+
+        IntegerProperty a = new SimpleIntegerProperty(Integer.MIN_VALUE);
+        assertThat(MathBindings.negateSaturated(a)).hasValue(Integer.MAX_VALUE);
+        assertThat(MathBindings.decrementSaturated(a)).hasValue(Integer.MIN_VALUE);
+        assertThat(MathBindings.incrementSaturated(a)).hasValue(Integer.MIN_VALUE + 1);
+
+        LongProperty value = new SimpleLongProperty(Long.MAX_VALUE);
+        MathBindings.SaturatedIntegerBinding toInt = MathBindings.toIntSaturated(value);
+        assertThat(toInt).hasValue(Integer.MAX_VALUE);
+        assertThat(toInt.overflowed()).isTrue();
+
+        value.set(-12);
+        assertThat(toInt).hasValue(-12);
+        assertThat(toInt.overflowed()).isFalse();
+    }
+
+    @Test
+    public void testLongSaturation() {
+        LongProperty x = new SimpleLongProperty(Long.MAX_VALUE - 1);
+        LongProperty y = new SimpleLongProperty(1);
+
+        MathBindings.SaturatedLongBinding sum = MathBindings.addSaturated(x, y);
+        assertThat(sum).hasValue(Long.MAX_VALUE);
+        assertThat(sum.overflowed()).isFalse();
+
+        y.set(5);
+        assertThat(sum).hasValue(Long.MAX_VALUE);
+        assertThat(sum.overflowed()).isTrue();
+
+        MathBindings.SaturatedLongBinding difference = MathBindings.subtractSaturated(Long.MIN_VALUE + 1, y);
+        assertThat(difference).hasValue(Long.MIN_VALUE);
+        assertThat(difference.overflowed()).isTrue();
+
+        MathBindings.SaturatedLongBinding product = MathBindings.multiplySaturated(x, y);
+        assertThat(product).hasValue(Long.MAX_VALUE);
+
+        y.set(-2);
+        assertThat(product).hasValue(Long.MIN_VALUE);
+        assertThat(product.overflowed()).isTrue();
+
+        x.set(3);
+        assertThat(product).hasValue(-6L);
+        assertThat(product.overflowed()).isFalse();
+
+        LongProperty a = new SimpleLongProperty(Long.MIN_VALUE);
+        MathBindings.SaturatedLongBinding negated = MathBindings.negateSaturated(a);
+        assertThat(negated).hasValue(Long.MAX_VALUE);
+        assertThat(negated.overflowed()).isTrue();
+        assertThat(MathBindings.decrementSaturated(a).overflowed()).isTrue();
+        assertThat(MathBindings.incrementSaturated(a)).hasValue(Long.MIN_VALUE + 1);
+    }
+
+    @Test
+    public void testLongOverflowDetectionMatchesExactArithmetic() {
+        Random random = new Random(1);
+        long[] specialValues = {0, 1, -1, 2, -2, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, 1L << 32, 3037000499L, 3037000500L};
+
+        for (int i = 0; i < 100_000; i++) {
+            long x = i < 144 ? specialValues[i / 12] : random.nextLong() >> random.nextInt(64);
+            long y = i < 144 ? specialValues[i % 12] : random.nextLong() >> random.nextInt(64);
+
+            BigInteger product = BigInteger.valueOf(x).multiply(BigInteger.valueOf(y));
+            assertThat(SaturatedArithmetic.multiplyHigh(x, y)).isEqualTo(product.shiftRight(64).longValue());
+
+            assertThat(SaturatedArithmetic.multiplyOverflows(x, y)).isEqualTo(product.bitLength() > 63);
+            assertThat(SaturatedArithmetic.addOverflows(x, y)).isEqualTo(BigInteger.valueOf(x).add(BigInteger.valueOf(y)).bitLength() > 63);
+            assertThat(SaturatedArithmetic.subtractOverflows(x, y)).isEqualTo(BigInteger.valueOf(x).subtract(BigInteger.valueOf(y)).bitLength() > 63);
+        }
+    }
+}
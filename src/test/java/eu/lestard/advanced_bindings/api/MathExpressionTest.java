@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static eu.lestard.assertj.javafx.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+public class MathExpressionTest {
+
+    @Test
+    public void testExpression() {
+        DoubleProperty x = new SimpleDoubleProperty(3);
+        IntegerProperty y = new SimpleIntegerProperty(4);
+
+        DoubleBinding length = MathExpression.of(x).pow(2).add(MathExpression.of(y).pow(2)).sqrt().toBinding();
+
+        assertThat(length).hasValue(5.0);
+
+        x.set(6);
+        y.set(8);
+        assertThat(length).hasValue(10.0);
+
+        DoubleBinding angle = MathExpression.of(y).atan2(MathExpression.of(x)).toDegrees().toBinding();
+        assertThat(angle.get()).isEqualTo(Math.toDegrees(Math.atan2(8, 6)), offset(1e-12));
+
+        DoubleBinding arithmetic = MathExpression.of(x).subtract(1).multiply(MathExpression.of(y)).divide(4).negate().toBinding();
+        assertThat(arithmetic).hasValue(-10.0);
+    }
+
+    @Test
+    public void testOnlyLeafObservablesAreDependencies() {
+        DoubleProperty x = new SimpleDoubleProperty(2);
+        DoubleProperty y = new SimpleDoubleProperty(3);
+
+        MathExpression square = MathExpression.of(x).multiply(MathExpression.of(x));
+        DoubleBinding binding = square.add(MathExpression.of(y)).sin().max(square).toBinding();
+
+        assertThat(new ArrayList<Object>(binding.getDependencies())).containsExactly(x, y);
+
+        AtomicInteger invalidations = new AtomicInteger();
+        binding.addListener(observable -> invalidations.incrementAndGet());
+
+        binding.get();
+        x.set(5);
+        assertThat(invalidations.get()).isEqualTo(1);
+        assertThat(binding).hasValue(25.0);
+
+        binding.dispose();
+        x.set(6);
+        assertThat(invalidations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testConstantsAreFolded() {
+        MathExpression constant = MathExpression.constant(2).pow(10).sqrt().add(MathExpression.constant(1));
+
+        DoubleBinding binding = constant.toBinding();
+
+        assertThat(binding.getDependencies()).isEmpty();
+        assertThat(binding).hasValue(33.0);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.IntegerBinding;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static eu.lestard.assertj.javafx.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ObservableBooleanArrayTest {
+
+    private ObservableBooleanArray array;
+
+    private List<int[]> changes;
+
+    @Before
+    public void setup() {
+        array = new ObservableBooleanArray(200);
+
+        changes = new ArrayList<>();
+        array.addListener((observableArray, sizeChanged, from, to) -> changes.add(new int[]{sizeChanged ? 1 : 0, from, to}));
+    }
+
+    @Test
+    public void testSetAndFlip() {
+        array.set(3, true);
+        array.flip(70);
+        array.flip(71);
+        array.flip(71);
+
+        assertThat(array.get(3)).isTrue();
+        assertThat(array.get(70)).isTrue();
+        assertThat(array.get(71)).isFalse();
+        assertThat(array.cardinality()).isEqualTo(2);
+        assertThat(changes).hasSize(4);
+        assertThat(changes.get(0)).containsExactly(0, 3, 4);
+
+        array.set(3, true);
+        assertThat(changes).hasSize(4);
+    }
+
+    @Test
+    public void testRanges() {
+        array.set(10, 150, true);
+        assertThat(array.cardinality()).isEqualTo(140);
+        assertThat(array.get(9)).isFalse();
+        assertThat(array.get(10)).isTrue();
+        assertThat(array.get(149)).isTrue();
+        assertThat(array.get(150)).isFalse();
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0)).containsExactly(0, 10, 150);
+
+        array.set(20, 30, true);
+        assertThat(changes).hasSize(1);
+
+        array.set(64, 128, false);
+        assertThat(array.cardinality()).isEqualTo(76);
+        assertThat(array.get(63)).isTrue();
+        assertThat(array.get(64)).isFalse();
+        assertThat(array.get(128)).isTrue();
+
+        array.setAll(true);
+        assertThat(array.cardinality()).isEqualTo(200);
+    }
+
+    @Test
+    public void testRandomChangesMatchBitSet() {
+        Random random = new Random(7);
+        BitSet expected = new BitSet();
+
+        for (int i = 0; i < 2000; i++) {
+            int from = random.nextInt(200);
+            int to = from + random.nextInt(200 - from + 1);
+            boolean value = random.nextBoolean();
+
+            if (i % 3 == 0) {
+                array.flip(from);
+                expected.flip(from);
+            } else {
+                array.set(from, to, value);
+                expected.set(from, to, value);
+            }
+
+            assertThat(array.cardinality()).isEqualTo(expected.cardinality());
+        }
+
+        assertThat(array.toBitSet()).isEqualTo(expected);
+    }
+
+    @Test
+    public void testResize() {
+        array.set(100, 200, true);
+        changes.clear();
+
+        array.resize(150);
+        assertThat(array.size()).isEqualTo(150);
+        assertThat(array.cardinality()).isEqualTo(50);
+        assertThat(changes.get(0)).containsExactly(1, 150, 200);
+
+        array.resize(300);
+        assertThat(array.cardinality()).isEqualTo(50);
+        assertThat(array.get(160)).isFalse();
+        assertThat(changes.get(1)).containsExactly(1, 150, 300);
+
+        array.trimToSize();
+        assertThat(array.get(149)).isTrue();
+
+        array.clear();
+        assertThat(array.size()).isEqualTo(0);
+        assertThat(array.cardinality()).isEqualTo(0);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        array.get(200);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testRangeOutOfBounds() {
+        array.set(150, 201, true);
+    }
+
+    @Test
+    public void testLogicBindings() {
+        ObservableBooleanArray flags = new ObservableBooleanArray(100);
+
+        BooleanBinding and = LogicBindings.and(flags);
+        BooleanBinding or = LogicBindings.or(flags);
+        BooleanBinding none = LogicBindings.none(flags);
+        IntegerBinding countTrue = LogicBindings.countTrue(flags);
+
+        assertThat(and).isFalse();
+        assertThat(or).isFalse();
+        assertThat(none).isTrue();
+        assertThat(countTrue).hasValue(0);
+
+        flags.flip(42);
+        assertThat(or).isTrue();
+        assertThat(none).isFalse();
+        assertThat(countTrue).hasValue(1);
+
+        flags.setAll(true);
+        assertThat(and).isTrue();
+        assertThat(countTrue).hasValue(100);
+
+        flags.resize(101);
+        assertThat(and).isFalse();
+
+        flags.clear();
+        assertThat(and).isTrue();
+        assertThat(or).isFalse();
+    }
+}
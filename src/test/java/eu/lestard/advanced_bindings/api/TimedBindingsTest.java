@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2014-2016 Manuel Mauky
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package eu.lestard.advanced_bindings.api;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.util.Duration;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimedBindingsTest {
+
+    private BindingScheduler.Virtual scheduler;
+    private StringProperty source;
+
+    @Before
+    public void setup() {
+        scheduler = new BindingScheduler.Virtual();
+        source = new SimpleStringProperty("a");
+    }
+
+    @Test
+    public void testThrottle() {
+        ObjectBinding<String> throttled = TimedBindings.throttle(source, Duration.millis(100), scheduler);
+        assertThat(throttled.get()).isEqualTo("a");
+
+        source.set("b");
+        assertThat(throttled.get()).isEqualTo("b");
+
+        source.set("c");
+        source.set("d");
+        scheduler.advance(Duration.millis(50));
+        assertThat(throttled.get()).isEqualTo("b");
+
+        scheduler.advance(Duration.millis(50));
+        assertThat(throttled.get()).isEqualTo("d");
+
+        // the window that was started by taking "d" ends without changes
+        scheduler.advance(Duration.millis(100));
+        assertThat(scheduler.getScheduledTaskCount()).isEqualTo(0);
+
+        source.set("e");
+        assertThat(throttled.get()).isEqualTo("e");
+    }
+
+    @Test
+    public void testThrottleRecomputesTheSourceOncePerWindow() {
+        AtomicInteger computations = new AtomicInteger();
+        ObjectBinding<String> expensive = Bindings.createObjectBinding(() -> {
+            computations.incrementAndGet();
+            return source.get().toUpperCase();
+        }, source);
+
+        ObjectBinding<String> throttled = TimedBindings.throttle(expensive, Duration.millis(100), scheduler);
+        source.set("b");
+        computations.set(0);
+
+        for (int i = 0; i < 1000; i++) {
+            source.set("value " + i);
+        }
+        assertThat(computations.get()).isEqualTo(0);
+
+        scheduler.advance(Duration.millis(100));
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(throttled.get()).isEqualTo("VALUE 999");
+    }
+
+    @Test
+    public void testDebounce() {
+        ObjectBinding<String> debounced = TimedBindings.debounce(source, Duration.millis(300), scheduler);
+        assertThat(debounced.get()).isEqualTo("a");
+
+        source.set("j");
+        scheduler.advance(Duration.millis(200));
+        source.set("ja");
+        scheduler.advance(Duration.millis(200));
+        source.set("jav");
+        scheduler.advance(Duration.millis(200));
+        assertThat(debounced.get()).isEqualTo("a");
+
+        scheduler.advance(Duration.millis(100));
+        assertThat(debounced.get()).isEqualTo("jav");
+        assertThat(scheduler.now()).isEqualTo(Duration.millis(700));
+    }
+
+    @Test
+    public void testSample() {
+        ObjectBinding<String> sampled = TimedBindings.sample(source, Duration.millis(100), scheduler);
+
+        source.set("b");
+        assertThat(sampled.get()).isEqualTo("a");
+
+        scheduler.advance(Duration.millis(60));
+        source.set("c");
+        scheduler.advance(Duration.millis(40));
+        assertThat(sampled.get()).isEqualTo("c");
+
+        source.set("d");
+        scheduler.advance(Duration.millis(99));
+        assertThat(sampled.get()).isEqualTo("c");
+        scheduler.advance(Duration.millis(1));
+        assertThat(sampled.get()).isEqualTo("d");
+    }
+
+    @Test
+    public void testInvalidationsArePassedOnOncePerWindow() {
+        ObjectBinding<String> sampled = TimedBindings.sample(source, Duration.millis(100), scheduler);
+        AtomicInteger invalidations = new AtomicInteger();
+        sampled.addListener(observable -> invalidations.incrementAndGet());
+
+        for (int i = 0; i < 100; i++) {
+            source.set("value " + i);
+            sampled.get();
+        }
+        assertThat(invalidations.get()).isEqualTo(0);
+
+        scheduler.advance(Duration.millis(100));
+        assertThat(invalidations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDispose() {
+        ObjectBinding<String> debounced = TimedBindings.debounce(source, Duration.millis(100), scheduler);
+        source.set("b");
+
+        debounced.dispose();
+        assertThat(scheduler.getScheduledTaskCount()).isEqualTo(0);
+
+        source.set("c");
+        scheduler.advance(Duration.millis(100));
+        assertThat(debounced.get()).isEqualTo("a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDuration() {
+        TimedBindings.throttle(source, Duration.millis(-1), scheduler);
+    }
+
+    @Test
+    public void testPerPulse() {
+        List<BooleanProperty> flags = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            flags.add(new SimpleBooleanProperty(false));
+        }
+        BooleanBinding or = LogicBindings.or(flags.toArray(new BooleanProperty[0]));
+
+        ObjectBinding<Boolean> perPulse = TimedBindings.perPulse(or, scheduler);
+        List<Boolean> changes = new ArrayList<>();
+        perPulse.addListener((observable, oldValue, newValue) -> changes.add(newValue));
+
+        flags.forEach(flag -> flag.set(true));
+        flags.forEach(flag -> flag.set(false));
+        flags.get(42).set(true);
+        assertThat(changes).isEmpty();
+
+        scheduler.pulse();
+        assertThat(changes).containsExactly(true);
+
+        flags.get(42).set(false);
+        flags.get(7).set(true);
+        scheduler.pulse();
+        assertThat(changes).containsExactly(true);
+
+        flags.get(7).set(false);
+        scheduler.pulse();
+        assertThat(changes).containsExactly(true, false);
+        assertThat(scheduler.now()).isEqualTo(Duration.ZERO);
+    }
+}